@@ -0,0 +1,98 @@
+package com.API.benchmarks;
+
+import com.API.harryPotterAPI.pojos.Character;
+import com.API.harryPotterAPI.pojos.House;
+import com.API.utilities.StreamingJsonValidator;
+import io.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the three ways the suite extracts data from a response body: GPath through {@link JsonPath},
+ * typed binding through the POJO binders and single-pass streaming validation.
+ * Run with {@code -prof gc} to see the allocation rate next to the throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExtractionBenchmark {
+    /**
+     * {@code captured} is the first recorded page of the cucumber repos; a number is that many generated repos.
+     */
+    @Param({"captured", "100", "1000", "10000"})
+    public String repoPayload;
+
+    private byte[] characters;
+    private byte[] houses;
+    private byte[] repos;
+
+    @Setup
+    public void load() {
+        characters = Payloads.characters();
+        houses = Payloads.houses();
+        repos = "captured".equals(repoPayload) ? Payloads.capturedRepos() : Payloads.repos(Integer.parseInt(repoPayload));
+    }
+
+    @Benchmark
+    public List<Object> charactersGPathGetList() {
+        return JsonPath.from(new ByteArrayInputStream(characters)).getList("_id");
+    }
+
+    @Benchmark
+    public List<Object> charactersGPathFindAll() {
+        return JsonPath.from(new ByteArrayInputStream(characters)).getList("findAll{it.house}.house");
+    }
+
+    @Benchmark
+    public List<Character> charactersTypedBinding() {
+        return Character.BINDER.readList(characters);
+    }
+
+    @Benchmark
+    public long charactersStreaming() {
+        return StreamingJsonValidator.forArray().
+                everyString("_id", "not empty", id -> !id.isEmpty()).
+                everyBoolean("dumbledoresArmy").
+                feed(characters).
+                count();
+    }
+
+    @Benchmark
+    public int housesGPathFindAll() {
+        JsonPath jsonPath = JsonPath.from(new ByteArrayInputStream(houses));
+        return jsonPath.getList("findAll{it.name=='Gryffindor'}.members[0]").size()
+                + jsonPath.getList("findAll{it.name=='Ravenclaw'}.members[0]").size()
+                + jsonPath.getList("findAll{it.name=='Slytherin'}.members[0]").size()
+                + jsonPath.getList("findAll{it.name=='Hufflepuff'}.members[0]").size();
+    }
+
+    @Benchmark
+    public int housesTypedBinding() {
+        int members = 0;
+        for (House house : House.BINDER.readList(houses)) {
+            members += house.getMembers().size();
+        }
+        return members;
+    }
+
+    @Benchmark
+    public List<Object> reposGPathGetList() {
+        return JsonPath.from(new ByteArrayInputStream(repos)).getList("id");
+    }
+
+    @Benchmark
+    public long reposStreamingUnique() {
+        return StreamingJsonValidator.forArray().
+                unique("id").
+                unique("node_id").
+                everyLong("owner.id", "the org id", id -> id == 320565).
+                feed(repos).
+                count();
+    }
+}
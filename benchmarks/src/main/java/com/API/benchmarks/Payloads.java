@@ -0,0 +1,170 @@
+package com.API.benchmarks;
+
+import com.API.utilities.FixtureStore;
+import groovy.json.JsonOutput;
+
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Response bodies the benchmarks run against. Captured fixtures (see {@code -Dapi.mode=record}) are used when
+ * present; otherwise payloads of the same shape and size are generated so the module also runs without them.
+ * The fixtures are read from {@code api.fixtures.dir}, or else from {@code src/test/resources/fixtures} of the project
+ * this module was built in, found from the location of the benchmark classes rather than the working directory.
+ */
+public class Payloads {
+    private static final String POTTER = "https://www.potterapi.com/v1";
+    private static final String KEY = "$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq";
+    private static final String[] HOUSES = {"Gryffindor", "Ravenclaw", "Slytherin", "Hufflepuff"};
+
+    private static final Optional<FixtureStore> STORE = fixtureDir().map(FixtureStore::new);
+
+    public static byte[] characters() {
+        return captured(FixtureStore.key("GET", POTTER + "/characters?key=" + KEY, "application/json"))
+                .orElseGet(() -> toJson(generateCharacters(194)));
+    }
+
+    public static byte[] houses() {
+        return captured(FixtureStore.key("GET", POTTER + "/houses?key=" + KEY, "application/json"))
+                .orElseGet(() -> toJson(generateHouses(generateCharacters(194))));
+    }
+
+    /**
+     * The first captured page of the cucumber repos, or a generated page of the same size.
+     */
+    public static byte[] capturedRepos() {
+        return captured(FixtureStore.key("GET", "https://api.github.com/orgs/cucumber/repos?per_page=100&page=1", "*/*"))
+                .orElseGet(() -> repos(100));
+    }
+
+    /**
+     * Generated repos, for sizing the payload beyond what one page holds.
+     */
+    public static byte[] repos(int count) {
+        return toJson(generateRepos(count));
+    }
+
+    private static Optional<byte[]> captured(String key) {
+        return STORE.flatMap(store -> store.find(key)).map(fixture -> fixture.getBody().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Optional<Path> fixtureDir() {
+        String configured = System.getProperty("api.fixtures.dir");
+        if (configured != null) {
+            return Optional.of(Paths.get(configured));
+        }
+        try {
+            // benchmarks/target/classes or benchmarks/target/benchmarks.jar, the fixtures sit in the parent project
+            Path location = Paths.get(Payloads.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            for (Path dir = location; dir != null; dir = dir.getParent()) {
+                Path fixtures = dir.resolve("src/test/resources/fixtures");
+                if (Files.isDirectory(fixtures)) {
+                    return Optional.of(fixtures);
+                }
+            }
+        } catch (URISyntaxException | SecurityException e) {
+            // fall through to the generated payloads
+        }
+        System.err.println("No fixtures found next to " + Payloads.class.getProtectionDomain().getCodeSource().getLocation()
+                + ", benchmarking generated payloads; set -Dapi.fixtures.dir to use captured ones");
+        return Optional.empty();
+    }
+
+    private static byte[] toJson(Object value) {
+        return JsonOutput.toJson(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<Map<String, Object>> generateCharacters(int count) {
+        Random random = new Random(42);
+        List<Map<String, Object>> characters = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> character = new LinkedHashMap<>();
+            character.put("_id", String.format("5a0fa%019x", i));
+            character.put("name", "Character " + i);
+            character.put("role", "student");
+            if (random.nextInt(4) > 0) {
+                character.put("house", HOUSES[random.nextInt(HOUSES.length)]);
+            }
+            character.put("school", "Hogwarts School of Witchcraft and Wizardry");
+            character.put("__v", 0);
+            character.put("ministryOfMagic", random.nextBoolean());
+            character.put("orderOfThePhoenix", random.nextBoolean());
+            character.put("dumbledoresArmy", random.nextBoolean());
+            character.put("deathEater", random.nextBoolean());
+            character.put("bloodStatus", "half-blood");
+            character.put("species", "human");
+            characters.add(character);
+        }
+        return characters;
+    }
+
+    private static List<Map<String, Object>> generateHouses(List<Map<String, Object>> characters) {
+        List<Map<String, Object>> houses = new ArrayList<>();
+        for (String name : HOUSES) {
+            Map<String, Object> house = new LinkedHashMap<>();
+            house.put("_id", Integer.toHexString(name.hashCode()));
+            house.put("name", name);
+            house.put("mascot", "mascot");
+            house.put("headOfHouse", "head");
+            house.put("houseGhost", "ghost");
+            house.put("founder", "founder");
+            house.put("__v", 0);
+            house.put("school", "Hogwarts School of Witchcraft and Wizardry");
+            List<Object> members = new ArrayList<>();
+            for (Map<String, Object> character : characters) {
+                if (name.equals(character.get("house"))) {
+                    members.add(character.get("_id"));
+                }
+            }
+            house.put("members", members);
+            house.put("values", Arrays.asList("courage", "bravery"));
+            house.put("colors", Arrays.asList("scarlet", "gold"));
+            houses.add(house);
+        }
+        return houses;
+    }
+
+    private static List<Map<String, Object>> generateRepos(int count) {
+        List<Map<String, Object>> repos = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> owner = new LinkedHashMap<>();
+            owner.put("login", "cucumber");
+            owner.put("id", 320565);
+            owner.put("node_id", "MDEyOk9yZ2FuaXphdGlvbjMyMDU2NQ==");
+            owner.put("avatar_url", "https://avatars.githubusercontent.com/u/320565?v=4");
+            owner.put("url", "https://api.github.com/users/cucumber");
+            owner.put("type", "Organization");
+            owner.put("site_admin", false);
+            Map<String, Object> repo = new LinkedHashMap<>();
+            repo.put("id", 1_000_000L + i);
+            repo.put("node_id", "MDEwOlJlcG9zaXRvcnk" + i);
+            repo.put("name", "repo-" + i);
+            repo.put("full_name", "cucumber/repo-" + i);
+            repo.put("private", false);
+            repo.put("owner", owner);
+            repo.put("html_url", "https://github.com/cucumber/repo-" + i);
+            repo.put("description", "Generated repository number " + i + " used to size the benchmark payload");
+            repo.put("fork", false);
+            repo.put("url", "https://api.github.com/repos/cucumber/repo-" + i);
+            repo.put("created_at", String.format("2019-%02d-%02dT10:15:30Z", 12 - i % 12, 28 - i % 28));
+            repo.put("updated_at", "2020-05-01T00:00:00Z");
+            repo.put("pushed_at", "2020-05-01T00:00:00Z");
+            repo.put("homepage", null);
+            repo.put("size", 1024 + i);
+            repo.put("stargazers_count", i * 3);
+            repo.put("watchers_count", i * 3);
+            repo.put("language", "Java");
+            repo.put("has_issues", true);
+            repo.put("forks_count", i);
+            repo.put("open_issues_count", i % 7);
+            repo.put("license", Collections.singletonMap("key", "mit"));
+            repo.put("default_branch", "master");
+            repos.add(repo);
+        }
+        return repos;
+    }
+}
@@ -1,28 +1,60 @@
 package com.API.githubAPI;
 
-import io.restassured.RestAssured;
+import com.API.utilities.ApiEnvironment;
+import com.API.utilities.AsyncScenario;
+import com.API.utilities.FailureLogExtension;
+import com.API.utilities.JsonSchema;
+import com.API.utilities.LatencyRecorder;
+import com.API.utilities.MatrixReport;
+import com.API.utilities.OrderingVerifier;
+import com.API.utilities.PaginatedFetcher;
+import com.API.utilities.RateLimitScheduler;
+import com.API.utilities.RateLimitScheduler.Priority;
+import com.API.utilities.RequestPolicy;
+import com.API.utilities.ShardCondition;
+import com.API.utilities.ShardedCsvSource;
+import com.API.utilities.SnapshotStore;
+import com.API.utilities.StreamingJsonValidator;
 import io.restassured.http.ContentType;
 import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
-import org.junit.jupiter.api.BeforeAll;
-import org.junit.jupiter.api.Test;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
 
-import java.util.*;
+import java.time.Duration;
+import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
 
+/*
+Every check runs for each organization of datasets/organizations.csv (or the file named by -Dmatrix.organizations).
+Split the rows across JVMs with -Dshard.index=<i> -Dshard.count=<n>; results are merged into
+target/matrix/matrix-report.json.
+ */
+@ExtendWith({FailureLogExtension.class, MatrixReport.class, ShardCondition.class})
 public class GitAPITests {
-    @BeforeAll
-    public static void setUp(){
-        RestAssured.baseURI = "https://api.github.com";
+    private static final String ORGANIZATIONS = "/datasets/organizations.csv";
+    private static final RequestSpecification spec = ApiEnvironment.requestSpec("https://api.github.com");
+    private static final PaginatedFetcher pages = new PaginatedFetcher();
+    private static final RequestPolicy policy = RequestPolicy.shared();
+
+    @AfterAll
+    public static void verifyLatencyBudgets(){
+        LatencyRecorder latency = LatencyRecorder.instance();
+        latency.assertWithinBudget("GET /orgs/{org}", 95, Duration.ofSeconds(2));
+        latency.assertWithinBudget("GET /orgs/{org}/repos", 95, Duration.ofSeconds(5));
     }
 
-    @Test
-    public void verifyOrganizationInformation(){
+    @ParameterizedTest(name = "{0}")
+    @ShardedCsvSource(value = ORGANIZATIONS, property = "matrix.organizations")
+    public void verifyOrganizationInformation(String org, String name, long id){
         /*
         1. Send a get request to /orgs/:org. Request includes : • Path param org with value cucumber
         2. Verify status code 200, content type application/json; charset=utf-8
@@ -32,18 +64,24 @@ public class GitAPITests {
          */
 
         //https://developer.github.com/v3/orgs/
-        given().
-                log().all().
-                pathParam("org", "cucumber").
+        // a single cheap request, it goes ahead of the bulk listings when the quota runs low
+        Response response = policy.get("GET /orgs/{org}", () -> given().spec(spec).
+                filter(RateLimitScheduler.priority(Priority.HIGH)).
+                pathParam("org", org).
         when().
-                get("/orgs/{org}").
-        then().
+                get("/orgs/{org}"));
+
+        response.then().
                 statusCode(200).
                 contentType(ContentType.JSON).
                 //contentType("application/json; charset=utf-8").
-                body("login",is("cucumber")).
-                body("name", is("Cucumber")).
-                body("id",is(320565));
+                body("login",is(org)).
+                body("name", is(name));
+        assertThat(response.jsonPath().getLong("id"),is(id));
+
+        // everything else must match the recorded response, apart from counters that move daily
+        SnapshotStore.shared().assertMatches("github/orgs/" + org, response,
+                "public_repos", "followers", "public_gists");
     }
 
     /*
@@ -55,14 +93,14 @@ public class GitAPITests {
     3. Verify response status line include message Unsupported Media Type
      */
 
-    @Test
-    public void verifyErrorMessage(){
-        Response response = given().
-                log().all().
+    @ParameterizedTest(name = "{0}")
+    @ShardedCsvSource(value = ORGANIZATIONS, property = "matrix.organizations")
+    public void verifyErrorMessage(String org, String name, long id){
+        Response response = policy.get("GET /orgs/{org}", () -> given().spec(spec).
                 header("Accept", "application/xml").
-                pathParam("org", "cucumber").
+                pathParam("org", org).
                 when().
-                get("/orgs/{org}").prettyPeek();
+                get("/orgs/{org}"));
 
         response.then().
                 statusCode(415).
@@ -79,30 +117,30 @@ public class GitAPITests {
     3. Send a get request to /orgs/:org/repos. Request includes :
     • Path param org with value cucumber
     4. Verify that number of objects in the response is equal to value from step 2
-    By default /orgs/:org/repos only returns 30 repos per request.
-    You may need to add query param per_page with any value that shows all the available repos for that user.
+    By default /orgs/:org/repos only returns 30 repos per request and per_page is capped at 100,
+    so every page listed in the Link header is fetched.
     Learn more about pagination in GitHub api at https://developer.github.com/v3/.
      */
 
     //https://developer.github.com/v3/repos/
 
-    @Test
-    public void NumberOfRepositories(){
-        JsonPath jsonPath = given().
-                log().all().
-                pathParam("org", "cucumber").
+    @ParameterizedTest(name = "{0}")
+    @ShardedCsvSource(value = ORGANIZATIONS, property = "matrix.organizations")
+    public void NumberOfRepositories(String org, String name, long id){
+        JsonPath jsonPath = policy.get("GET /orgs/{org}", () -> given().spec(spec).
+                pathParam("org", org).
                 when().
-                get("/orgs/{org}").jsonPath();
+                get("/orgs/{org}")).jsonPath();
 
         int publicRepos = jsonPath.getInt("public_repos");
 
-        jsonPath = given().log().all().
-                pathParam("org","cucumber").
-                queryParam("per_page",150).
-                when().get("/orgs/{org}/repos").jsonPath();
-
-        List<Object> repos = jsonPath.getList("id");
-        assertThat(publicRepos,is(repos.size()));
+        StreamingJsonValidator repos = StreamingJsonValidator.forArray();
+        try (Stream<Response> repoPages = pages.pages(() -> given().spec(spec).
+                pathParam("org", org).
+                queryParam("per_page", PaginatedFetcher.MAX_PER_PAGE), "/orgs/{org}/repos")) {
+            repoPages.forEach(repos::feed);
+        }
+        assertThat((long) publicRepos,is(repos.count()));
     }
 
 
@@ -112,19 +150,27 @@ public class GitAPITests {
     2. Verify that id field is unique in every in every object in the response
     3. Verify that node_id field is unique in every in every object in the response
      */
-    @Test
-    public void repositoryIdInformation(){
-        JsonPath jsonPath = given().log().all().
-                pathParam("org","cucumber").
-                queryParam("per_page", 100).
-                when().get("/orgs/{org}/repos").jsonPath();
-        List<String> listReposId = jsonPath.getList("id");
-        Set<Object> setReposId = new HashSet<>(listReposId);
-        assertThat(listReposId.size(),is(setReposId.size()));
-
-        List<Object> listNodeId = jsonPath.getList("node_id");
-        Set<Object> setNodeId = new HashSet<>(listNodeId);
-        assertThat(listNodeId.size(),is(setNodeId.size()));
+    @ParameterizedTest(name = "{0}")
+    @ShardedCsvSource(value = ORGANIZATIONS, property = "matrix.organizations")
+    public void repositoryIdInformation(String org, String name, long id){
+        StreamingJsonValidator repos = StreamingJsonValidator.forArray().
+                unique("id").
+                unique("node_id");
+        List<Response> responses;
+        try (Stream<Response> repoPages = pages.pages(() -> given().spec(spec).
+                pathParam("org", org).
+                queryParam("per_page", PaginatedFetcher.MAX_PER_PAGE), "/orgs/{org}/repos")) {
+            responses = repoPages.collect(Collectors.toList());
+        }
+        responses.forEach(repos::feed);
+        repos.assertValid();
+
+        for (int page = 0; page < responses.size(); page++) {
+            JsonSchema.load("repos.json").validate(responses.get(page)).assertValid();
+            SnapshotStore.shared().assertMatches("github/orgs/" + org + "/repos/page-" + (page + 1), responses.get(page),
+                    "stargazers_count", "watchers_count", "watchers", "forks_count", "forks",
+                    "open_issues_count", "open_issues", "size");
+        }
     }
 
     /*
@@ -136,15 +182,29 @@ public class GitAPITests {
     4. Verify that value of the id inside the owner object in every response is equal to value from step 2
      */
 
-    @Test
-    public void RepositoryOwnerInformation(){
-        int id = given().pathParam("org", "cucumber").
-                when().get("/orgs/{org}").jsonPath().getInt("id");
-
-        given().pathParam("org", "cucumber").
-                when().get("/orgs/{org}/repos").
-        then().
-                body("owner.id",everyItem(equalTo(id)));
+    @ParameterizedTest(name = "{0}")
+    @ShardedCsvSource(value = ORGANIZATIONS, property = "matrix.organizations")
+    public void RepositoryOwnerInformation(String org, String name, long id){
+        // the owner id and the repository pages are independent, so they are fetched concurrently
+        AsyncScenario scenario = new AsyncScenario();
+        AsyncScenario.Step<Integer> orgId = scenario.step("GET /orgs/{org}", () -> policy.get("GET /orgs/{org}", () -> given().spec(spec).
+                pathParam("org", org).
+                when().get("/orgs/{org}")).jsonPath().getInt("id"));
+        AsyncScenario.Step<List<Response>> repoPages = scenario.step("GET /orgs/{org}/repos", () -> {
+            try (Stream<Response> responses = pages.pages(() -> given().spec(spec).
+                    pathParam("org", org).
+                    queryParam("per_page", PaginatedFetcher.MAX_PER_PAGE), "/orgs/{org}/repos")) {
+                return responses.collect(Collectors.toList());
+            }
+        });
+        scenario.step("verify owner ids", orgId, repoPages, (ownerId, responses) -> {
+            StreamingJsonValidator repos = StreamingJsonValidator.forArray().
+                    everyLong("owner.id", "equal to " + ownerId, repoOwnerId -> repoOwnerId == ownerId);
+            responses.forEach(repos::feed);
+            repos.assertValid();
+            return repos.count();
+        });
+        scenario.await();
     }
 
 
@@ -157,15 +217,19 @@ public class GitAPITests {
     value of the field name
      */
 
-    @Test
-    public void ascendingOrderByFullNameSort(){
-        List<String> listFullName = given().
-                pathParam("org", "cucumber").
-                queryParam("sort", "full_name").
-                when().get("/orgs/{org}/repos").jsonPath().getList("full_name");
-        List<String> copyOfListFullName = new ArrayList<>(listFullName);
-        Collections.sort(copyOfListFullName);
-        assertThat(listFullName,is(copyOfListFullName));
+    @ParameterizedTest(name = "{0}")
+    @ShardedCsvSource(value = ORGANIZATIONS, property = "matrix.organizations")
+    public void ascendingOrderByFullNameSort(String org, String name, long id){
+        StreamingJsonValidator repos = StreamingJsonValidator.forArray().
+                ordered("full_name", OrderingVerifier.text(OrderingVerifier.Direction.ASCENDING));
+        try (Stream<Response> repoPages = pages.pages(() -> given().spec(spec).
+                filter(RateLimitScheduler.priority(Priority.LOW)).
+                pathParam("org", org).
+                queryParam("per_page", PaginatedFetcher.MAX_PER_PAGE).
+                queryParam("sort", "full_name"), "/orgs/{org}/repos")) {
+            repoPages.forEach(repos::feed);
+        }
+        repos.assertValid();
     }
 
     /*
@@ -178,16 +242,20 @@ public class GitAPITests {
     based on the value of the field name
      */
 
-    @Test
-    public void descendingOrderByFullNameSort(){
-        List<String> listFullName = given().
-                pathParam("org", "cucumber").
+    @ParameterizedTest(name = "{0}")
+    @ShardedCsvSource(value = ORGANIZATIONS, property = "matrix.organizations")
+    public void descendingOrderByFullNameSort(String org, String name, long id){
+        StreamingJsonValidator repos = StreamingJsonValidator.forArray().
+                ordered("full_name", OrderingVerifier.text(OrderingVerifier.Direction.DESCENDING));
+        try (Stream<Response> repoPages = pages.pages(() -> given().spec(spec).
+                filter(RateLimitScheduler.priority(Priority.LOW)).
+                pathParam("org", org).
+                queryParam("per_page", PaginatedFetcher.MAX_PER_PAGE).
                 queryParam("sort", "full_name").
-                queryParam("direction","desc").
-                when().get("/orgs/{org}/repos").jsonPath().getList("full_name");
-        List<String> copyOfListFullName = new ArrayList<>(listFullName);
-        Collections.sort(copyOfListFullName,Collections.reverseOrder());
-        assertThat(listFullName,is(copyOfListFullName));
+                queryParam("direction","desc"), "/orgs/{org}/repos")) {
+            repoPages.forEach(repos::feed);
+        }
+        repos.assertValid();
     }
 
 
@@ -199,22 +267,18 @@ public class GitAPITests {
     based on the value of the field created_at
      */
 
-    @Test
-    public void DefaultSort(){
-        List<String> listCreatedDates = given().
-                pathParam("org", "cucumber").
-         when().
-                get("/orgs/{org}/repos").jsonPath().getList("created_at");
-
-        List<String> listDatesOnly = new ArrayList<>();
-
-        for(String listCreatedDate : listCreatedDates){
-            listDatesOnly.add(listCreatedDate.split("T")[0]);
+    @ParameterizedTest(name = "{0}")
+    @ShardedCsvSource(value = ORGANIZATIONS, property = "matrix.organizations")
+    public void DefaultSort(String org, String name, long id){
+        StreamingJsonValidator repos = StreamingJsonValidator.forArray().
+                ordered("created_at", OrderingVerifier.timestamps(OrderingVerifier.Direction.DESCENDING));
+        try (Stream<Response> repoPages = pages.pages(() -> given().spec(spec).
+                filter(RateLimitScheduler.priority(Priority.LOW)).
+                pathParam("org", org).
+                queryParam("per_page", PaginatedFetcher.MAX_PER_PAGE), "/orgs/{org}/repos")) {
+            repoPages.forEach(repos::feed);
         }
-        List<String> copyOfListDatesOnly = new ArrayList<>(listDatesOnly);
-        Collections.sort(copyOfListDatesOnly,Collections.reverseOrder());
-
-        assertThat(listDatesOnly,is(copyOfListDatesOnly));
+        repos.assertValid();
 
     }
 
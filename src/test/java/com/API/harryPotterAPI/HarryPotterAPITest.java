@@ -5,17 +5,46 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
 import com.API.harryPotterAPI.pojos.House;
+import com.API.utilities.ApiEnvironment;
+import com.API.utilities.AsyncScenario;
+import com.API.utilities.Bytes;
+import com.API.utilities.FailureLogExtension;
+import com.API.utilities.FanOut;
+import com.API.utilities.GPathCache;
+import com.API.utilities.IdSet;
+import com.API.utilities.JsonBinder;
+import com.API.utilities.JsonSchema;
+import com.API.utilities.LatencyRecorder;
+import com.API.utilities.MatrixReport;
+import com.API.utilities.RequestPolicy;
+import com.API.utilities.ShardCondition;
+import com.API.utilities.ShardedCsvSource;
+import com.API.utilities.SnapshotStore;
+import com.API.utilities.StreamingJsonValidator;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
-import org.junit.jupiter.api.BeforeAll;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
 
+import java.time.Duration;
 import java.util.*;
 
+@ExtendWith({FailureLogExtension.class, MatrixReport.class, ShardCondition.class})
 public class HarryPotterAPITest {
-    @BeforeAll
-    public static void setUp(){
-        baseURI = "https://www.potterapi.com/v1";
+    private static final RequestSpecification spec = ApiEnvironment.requestSpec("https://www.potterapi.com/v1");
+    private static final GPathCache paths = GPathCache.shared();
+    private static final RequestPolicy policy = RequestPolicy.shared();
+
+    @AfterAll
+    public static void verifyLatencyBudgets(){
+        LatencyRecorder latency = LatencyRecorder.instance();
+        latency.assertWithinBudget("GET /characters", 95, Duration.ofSeconds(3));
+        latency.assertWithinBudget("GET /houses", 95, Duration.ofSeconds(2));
+        latency.assertWithinBudget("GET /houses/{id}", 95, Duration.ofSeconds(2));
+        latency.assertWithinBudget("GET /sortingHat", 95, Duration.ofSeconds(2));
     }
 
     /*
@@ -28,62 +57,46 @@ public class HarryPotterAPITest {
 
     @Test
     public void VerifySortingHat(){
-        Response response = given().log().all().
-                when().get("/sortingHat").prettyPeek();
+        Response response = given().spec(spec).
+                when().get("/sortingHat");
 
         response.then().statusCode(200).
                     contentType(ContentType.JSON);
 
-        String name = new House(response.asString().replace("\"","")).getName();
+        String name = new House(JsonBinder.readString(response.asByteArray())).getName();
         List<String> listOfHouses = new ArrayList<>(Arrays.asList("Gryffindor", "Ravenclaw", "Slytherin", "Hufflepuff"));
         assertThat(true,is(listOfHouses.contains(name)));
     }
 
     /*
-    Verify bad key
+    Verify keys, for every row of datasets/potter-keys.csv (or the file named by -Dmatrix.potterKeys)
     1. Send a get request to /characters. Request includes :
     • Header Accept with value application/json
-    • Query param key with value invalid
-    2. Verify status code 401, content type application/json; charset=utf-8
-    3. Verify response status line include message Unauthorized
-    4. Verify that response body says "error": "API Key Not Found"
+    • Query param key with the key of the row, no key at all when it is empty
+    2. Verify the status code of the row, content type application/json; charset=utf-8
+    3. Verify response status line include the reason of the row, e.g. Unauthorized or Conflict
+    4. Verify that response body says "error": <the error of the row>, or lists characters when the row has none
      */
 
-    @Test
-    public void verifyBadKey(){
-        Response response = given().log().all().
-                header("Accept", "application/json").
-                queryParam("key", "invalid").
-                when().get("/characters").prettyPeek();
+    @ParameterizedTest(name = "key={0} -> {1}")
+    @ShardedCsvSource(value = "/datasets/potter-keys.csv", property = "matrix.potterKeys")
+    public void verifyKey(String key, int status, String reason, String error){
+        RequestSpecification request = given().spec(spec).
+                header("Accept", "application/json");
+        if (key != null) {
+            request.queryParam("key", key);
+        }
+        Response response = request.when().get("/characters");
 
         response.then().contentType(ContentType.JSON).
-                statusCode(401).
-                body("error",is("API Key Not Found"));
-        assertThat((response.statusLine().contains("Unauthorized")),is(true));
-        assertThat(response.asString().contains("\"error\":\"API Key Not Found\""), is(true));
-
-    }
-
-
-    /*
-    Verify no key
-    1. Send a get request to /characters. Request includes :
-    • Header Accept with value application/json
-    2. Verify status code 409, content type application/json; charset=utf-8
-    3. Verify response status line include message Conflict
-    4. Verify that response body says "error": "Must pass API key for request"
-     */
-
-    @Test
-    public void verifyNoKey(){
-        Response response = given().log().all().
-                header("Accept", "application/json").
-                when().
-                get("/characters");
-        response.then().statusCode(409).contentType(ContentType.JSON).
-        body("error",is("Must pass API key for request"));
-        assertThat(response.statusLine().contains("Conflict"),is(true));
-       // assertThat(response.asString().contains("\"error\":\"Must pass API key for request\""),is(true));
+                statusCode(status);
+        assertThat(response.statusLine().contains(reason),is(true));
+        if (error == null) {
+            response.then().body("", not(empty()));
+        } else {
+            response.then().body("error",is(error));
+            assertThat(Bytes.contains(response.asByteArray(), "\"error\":\"" + error + "\""), is(true));
+        }
     }
 
     /*
@@ -97,15 +110,17 @@ public class HarryPotterAPITest {
 
     @Test
     public void verifyNumberOfCharacters(){
-        Response response = given().log().all().
+        Response response = given().spec(spec).
                 header("Accept", "application/json").
                 queryParam("key","$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq").
         when().
                 get("/characters");
 
         response.then().statusCode(200).contentType(ContentType.JSON);
-        List<Object> items = response.jsonPath().getList("_id");
-        assertThat(items.size(),is(194));
+        StreamingJsonValidator.forArray().
+                expectCount(194).
+                feed(response).
+                assertValid();
     }
 
     /*
@@ -121,36 +136,16 @@ public class HarryPotterAPITest {
 
     @Test
     public void verifyNumberOfCharacterIdAndHouse(){
-        Response response = given().log().all().
+        Response response = given().spec(spec).
                 header("Accept", "application/json").
                 queryParam("key","$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq").
         when().
                 get("/characters");
-        boolean check = false;
-        List<Boolean> dumbledoresArmy = response.jsonPath().getList("dumbledoresArmy");
-        for (Boolean each: dumbledoresArmy){
-            if (each == true || each == false){
-                check = true;
-            }
-        }
-        response.then().statusCode(200).contentType(ContentType.JSON).
-                body("_id",everyItem(not(empty())));
-        assertThat(true, is(check));
-
-        List<String> houses = response.jsonPath().getList("findAll{it.house}.house");
-        System.out.println(houses);
-
-        List<String> listOfHouses = new ArrayList<>(Arrays.asList("Gryffindor", "Ravenclaw", "Slytherin", "Hufflepuff"));
-        check = true;
-        for (String listOfHouse : houses) {
-            if (!listOfHouses.contains(listOfHouse)){
-                check = false;
-                break;
-            }
-        }
-        assertThat(true, is(check));
-        //        assertThat(houses,everyItem(isIn(listOfHouses))); this one is
+        response.then().statusCode(200).contentType(ContentType.JSON);
 
+        // schemas/character.json: _id a non-empty string, dumbledoresArmy present and a boolean, house one of the four houses
+        // (characters without a house either omit the field or send an empty string), every other field typed too
+        JsonSchema.load("characters.json").validate(response).assertValid();
     }
 
     /*
@@ -159,7 +154,7 @@ public class HarryPotterAPITest {
         • Header Accept with value application/json
         • Query param key with value {{apiKey}}
     2. Verify status code 200, content type application/json; charset=utf-8
-    3. Select name of any random character
+    3. For every character (originally: any random character)
     4. Send a get request to /characters. Request includes :
         • Header Accept with value application/json
         • Query param key with value {{apiKey}}
@@ -169,24 +164,29 @@ public class HarryPotterAPITest {
 
     @Test
     public void verifyAllCharacterInformation(){
-        Response response = given().log().all().
+        Response response = given().spec(spec).
                 header("Accept", "application/json").
                 queryParam("key","$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq").
         when().
                 get("/characters");
         response.then().statusCode(200).contentType(ContentType.JSON);
+        SnapshotStore.shared().assertMatches("potter/characters", response);
         List<Map<String, Object>> characters = response.jsonPath().getList("");
 
-        Random rd = new Random();
-        int randomNumber = rd.nextInt(characters.size());
-        String randomName = characters.get(randomNumber).get("name").toString();
-
-        List<Map<String, Object>> actualCharacters = given().log().all().
-                header("Accept", "application/json").
-                queryParam("key", "$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq").
-                queryParam("name", randomName).
-                when().get("/characters").jsonPath().getList("");
-        assertThat(actualCharacters.get(0),is(characters.get(randomNumber)));
+        // every character, not a random one, with a bounded number of lookups in flight
+        FanOut.Result result = FanOut.fromSystemProperties().verifyEach(characters,
+                character -> character.get("_id") + " " + character.get("name"),
+                character -> {
+                    List<Map<String, Object>> actualCharacters = given().spec(spec).
+                            header("Accept", "application/json").
+                            queryParam("key", "$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq").
+                            queryParam("name", character.get("name").toString()).
+                            when().get("/characters").jsonPath().getList("");
+                    // names are not unique, so the character only has to be one of the hits
+                    assertThat(actualCharacters,hasItem(character));
+                });
+        result.assertAllPassed();
+        assertThat(result.getPassed(),is((long) characters.size()));
     }
 
     /*
@@ -207,7 +207,7 @@ public class HarryPotterAPITest {
 
     @Test
     public void verifyNameSearch(){
-       given().log().all().
+       given().spec(spec).
                 header("Accept", "application/json").
                 queryParam("key","$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq").
                 queryParam("name","Harry Potter").
@@ -218,7 +218,7 @@ public class HarryPotterAPITest {
                contentType(ContentType.JSON).
                body("[0].name", is("Harry Potter"));
 
-        given().log().all().
+        given().spec(spec).
                 header("Accept", "application/json").
                 queryParam("key","$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq").
                 queryParam("name","Marry Potter").
@@ -247,27 +247,35 @@ public class HarryPotterAPITest {
 
     @Test
     public void verifyHouseMembers(){
-        Response response = given().log().all().
-                header("Accept", "application/json").
-                queryParam("key", "$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq").
-        when().
-                get("/houses").prettyPeek();
-        response.then().
-                statusCode(200).
-                contentType(ContentType.JSON);
-        String gryffindorId = response.jsonPath().getString("find{it.name=='Gryffindor'}._id");
-
-        List<Object> memberIds = response.jsonPath().getList("findAll{it.name=='Gryffindor'}.members[0]");
-
-        response = given().log().all().
-                header("Accept", "application/json").
-                queryParam("key", "$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq").
-                pathParam("id",gryffindorId).
-        when().
-                get("/houses/{id}").prettyPeek();
-        List<Object> actualMembersId = response.jsonPath().getList("[0].members._id");
-
-        assertThat(actualMembersId,is(memberIds));
+        AsyncScenario scenario = new AsyncScenario();
+        AsyncScenario.Step<Object> houses = scenario.step("GET /houses", () -> {
+            Response response = policy.get("GET /houses", () -> given().spec(spec).
+                    header("Accept", "application/json").
+                    queryParam("key", "$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq").
+            when().
+                    get("/houses"));
+            response.then().
+                    statusCode(200).
+                    contentType(ContentType.JSON);
+            JsonSchema.load("houses.json").validate(response).assertValid();
+            return GPathCache.parse(response);
+        });
+        AsyncScenario.Step<List<Object>> actualMembersId = scenario.step("GET /houses/{id}", houses, json -> {
+            String gryffindorId = paths.getString(json, "find{it.name == house}._id", Map.of("house", "Gryffindor"));
+            Response response = policy.get("GET /houses/{id}", () -> given().spec(spec).
+                    header("Accept", "application/json").
+                    queryParam("key", "$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq").
+                    pathParam("id",gryffindorId).
+            when().
+                    get("/houses/{id}"));
+            response.then().statusCode(200);
+            return response.jsonPath().getList("[0].members._id");
+        });
+        scenario.await();
+
+        // same members in any order
+        List<Object> memberIds = paths.getList(houses.join(), "find{it.name == house}.members", Map.of("house", "Gryffindor"));
+        IdSet.diff(IdSet.of(memberIds), IdSet.of(actualMembersId.join())).assertEmpty("Gryffindor members");
     }
 
     /*
@@ -286,25 +294,30 @@ public class HarryPotterAPITest {
 
     @Test
     public void verifyHouseMembersAgain(){
-       Response response = given().log().all().
+        // both requests only need constants, so they run concurrently
+        AsyncScenario scenario = new AsyncScenario();
+        AsyncScenario.Step<List<Object>> expectedMembersId = scenario.step("GET /houses/{id}", () -> policy.get("GET /houses/{id}", () -> given().spec(spec).
                 header("Accept", "application/json").
                 queryParam("key", "$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq").
                 pathParam("id","5a05e2b252f721a3cf2ea33f").
-       when().
-                get("/houses/{id}");
-
-        List<Object> expectedMembersId = response.jsonPath().getList("[0].members._id");
-
-
-        response = given().log().all().
+        when().
+                get("/houses/{id}")).jsonPath().getList("[0].members._id"));
+        AsyncScenario.Step<List<Object>> actualMembersId = scenario.step("GET /characters", () -> policy.get("GET /characters", () -> given().spec(spec).
                 header("Accept", "application/json").
                 queryParam("key", "$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq").
                 queryParam("house","Gryffindor").
         when().
-                get("/characters").prettyPeek();
-        List<Object> actualMembersId = response.jsonPath().getList("_id");
-        assertThat(actualMembersId,is(expectedMembersId));
+                get("/characters")).jsonPath().getList("_id"));
+        scenario.await();
 
+        IdSet expected = IdSet.of(expectedMembersId.join());
+        IdSet.diff(expected, IdSet.of(actualMembersId.join())).assertEmpty("Gryffindor members");
+
+        // and every character in the full listing that names Gryffindor is one of its members
+        PotterIndex index = PotterIndex.shared(() -> given().spec(spec).
+                header("Accept", "application/json").
+                queryParam("key", "$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq"));
+        IdSet.diff(expected, index.charactersIn("Gryffindor")).assertEmpty("Gryffindor members and characters");
     }
 
 
@@ -319,16 +332,19 @@ public class HarryPotterAPITest {
 
     @Test
     public void verifyHouseWithMostMembers(){
-        Response response = given().log().all().
+        Response response = policy.get("GET /houses", () -> given().spec(spec).
                 header("Accept", "application/json").
                 queryParam("key", "$2a$10$s8DSvL7pIZx4pTGdYYw8GeG/W/U9AbBCUvK1VJ/d2SX1hr0eM6Rnq").
         when().
-                get("/houses").prettyPeek();
+                get("/houses"));
         response.then().statusCode(200).contentType(ContentType.JSON);
-        int gryffindorSize = response.jsonPath().getList("findAll{it.house='Gryffindor'}.members[0]").size();
-        int ravenclawSize = response.jsonPath().getList("findAll{it.house='Ravenclaw'}.members[0]").size();
-        int slytherinSize = response.jsonPath().getList("findAll{it.house='Slytherin'}.members[0]").size();
-        int hufflepuffSize = response.jsonPath().getList("findAll{it.house='Hufflepuff'}.members[0]").size();
+        JsonSchema.load("houses.json").validate(response).assertValid();
+        // indexed once, each count is a lookup
+        PotterIndex houses = PotterIndex.houses(response);
+        int gryffindorSize = houses.memberCount("Gryffindor");
+        int ravenclawSize = houses.memberCount("Ravenclaw");
+        int slytherinSize = houses.memberCount("Slytherin");
+        int hufflepuffSize = houses.memberCount("Hufflepuff");
         List<Integer> houseSizes = new ArrayList<>(Arrays.asList(ravenclawSize,slytherinSize,hufflepuffSize));
         assertThat(houseSizes,everyItem(is(lessThanOrEqualTo(gryffindorSize))));
     }
@@ -0,0 +1,92 @@
+package com.API.harryPotterAPI;
+
+import com.API.harryPotterAPI.pojos.Character;
+import com.API.harryPotterAPI.pojos.House;
+import com.API.utilities.IdSet;
+import com.API.utilities.RequestPolicy;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Characters and houses keyed for joins: house name to its record, to its member ids ({@code /houses}) and to the ids
+ * of characters naming it ({@code /characters}), each as an {@link IdSet}. Counts and membership are lookups, and
+ * comparing two endpoints is a set diff instead of a scan per element.
+ * <p>
+ * {@link #shared} loads both listings once per JVM; {@link #houses(Response)} indexes a response the test already has.
+ */
+public class PotterIndex {
+    private static PotterIndex shared;
+
+    private final Map<String, House> housesByName = new HashMap<>();
+    private final Map<String, IdSet> membersByHouse = new HashMap<>();
+    private final Map<String, IdSet> charactersByHouse = new HashMap<>();
+
+    /**
+     * @param request the spec with the Accept header and API key, built fresh per call
+     */
+    public static synchronized PotterIndex shared(Supplier<RequestSpecification> request) {
+        if (shared == null) {
+            RequestPolicy policy = RequestPolicy.shared();
+            Response houses = policy.get("GET /houses", () -> request.get().when().get("/houses"));
+            Response characters = policy.get("GET /characters", () -> request.get().when().get("/characters"));
+            houses.then().statusCode(200);
+            characters.then().statusCode(200);
+            shared = new PotterIndex().addHouses(House.BINDER.readList(houses)).
+                    addCharacters(Character.BINDER.readList(characters));
+        }
+        return shared;
+    }
+
+    public static PotterIndex houses(Response houses) {
+        return new PotterIndex().addHouses(House.BINDER.readList(houses));
+    }
+
+    public House house(String name) {
+        return housesByName.get(name);
+    }
+
+    /**
+     * Member ids as {@code /houses} lists them; empty for an unknown house.
+     */
+    public IdSet members(String house) {
+        return membersByHouse.getOrDefault(house, new IdSet(0));
+    }
+
+    public int memberCount(String house) {
+        return members(house).size();
+    }
+
+    /**
+     * Ids of the characters whose {@code house} field names the house; empty unless characters were loaded.
+     */
+    public IdSet charactersIn(String house) {
+        return charactersByHouse.getOrDefault(house, new IdSet(0));
+    }
+
+    public Map<String, House> houses() {
+        return Collections.unmodifiableMap(housesByName);
+    }
+
+    private PotterIndex addHouses(List<House> houses) {
+        for (House house : houses) {
+            housesByName.put(house.getName(), house);
+            membersByHouse.put(house.getName(), house.getMembers() == null ? new IdSet(0) : IdSet.of(house.getMembers()));
+        }
+        return this;
+    }
+
+    private PotterIndex addCharacters(List<Character> characters) {
+        for (Character character : characters) {
+            if (character.getHouse() != null && !character.getHouse().isEmpty()) {
+                charactersByHouse.computeIfAbsent(character.getHouse(), house -> new IdSet()).add(character.getId());
+            }
+        }
+        return this;
+    }
+}
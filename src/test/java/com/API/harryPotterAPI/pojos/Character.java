@@ -1,5 +1,227 @@
 package com.API.harryPotterAPI.pojos;
 
+import com.API.utilities.JsonBinder;
+
+import java.util.Objects;
+
 public class Character {
+    public static final JsonBinder<Character> BINDER = JsonBinder.builder(Character::new).
+            string("_id", Character::setId).
+            string("name", Character::setName).
+            string("role", Character::setRole).
+            string("house", Character::setHouse).
+            string("school", Character::setSchool).
+            string("bloodStatus", Character::setBloodStatus).
+            string("species", Character::setSpecies).
+            string("alias", Character::setAlias).
+            string("wand", Character::setWand).
+            string("boggart", Character::setBoggart).
+            string("patronus", Character::setPatronus).
+            string("animagus", Character::setAnimagus).
+            bool("ministryOfMagic", Character::setMinistryOfMagic).
+            bool("orderOfThePhoenix", Character::setOrderOfThePhoenix).
+            bool("dumbledoresArmy", Character::setDumbledoresArmy).
+            bool("deathEater", Character::setDeathEater).
+            integer("__v", (character, version) -> character.setVersion(version.intValue())).
+            build();
+
+    private String id;
+    private String name;
+    private String role;
+    private String house;
+    private String school;
+    private String bloodStatus;
+    private String species;
+    private String alias;
+    private String wand;
+    private String boggart;
+    private String patronus;
+    private String animagus;
+    private boolean ministryOfMagic;
+    private boolean orderOfThePhoenix;
+    private boolean dumbledoresArmy;
+    private boolean deathEater;
+    private int version;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public String getHouse() {
+        return house;
+    }
+
+    public void setHouse(String house) {
+        this.house = house;
+    }
+
+    public String getSchool() {
+        return school;
+    }
+
+    public void setSchool(String school) {
+        this.school = school;
+    }
+
+    public String getBloodStatus() {
+        return bloodStatus;
+    }
+
+    public void setBloodStatus(String bloodStatus) {
+        this.bloodStatus = bloodStatus;
+    }
+
+    public String getSpecies() {
+        return species;
+    }
+
+    public void setSpecies(String species) {
+        this.species = species;
+    }
+
+    public String getAlias() {
+        return alias;
+    }
+
+    public void setAlias(String alias) {
+        this.alias = alias;
+    }
+
+    public String getWand() {
+        return wand;
+    }
+
+    public void setWand(String wand) {
+        this.wand = wand;
+    }
+
+    public String getBoggart() {
+        return boggart;
+    }
+
+    public void setBoggart(String boggart) {
+        this.boggart = boggart;
+    }
+
+    public String getPatronus() {
+        return patronus;
+    }
+
+    public void setPatronus(String patronus) {
+        this.patronus = patronus;
+    }
+
+    public String getAnimagus() {
+        return animagus;
+    }
+
+    public void setAnimagus(String animagus) {
+        this.animagus = animagus;
+    }
+
+    public boolean isMinistryOfMagic() {
+        return ministryOfMagic;
+    }
+
+    public void setMinistryOfMagic(boolean ministryOfMagic) {
+        this.ministryOfMagic = ministryOfMagic;
+    }
+
+    public boolean isOrderOfThePhoenix() {
+        return orderOfThePhoenix;
+    }
+
+    public void setOrderOfThePhoenix(boolean orderOfThePhoenix) {
+        this.orderOfThePhoenix = orderOfThePhoenix;
+    }
+
+    public boolean isDumbledoresArmy() {
+        return dumbledoresArmy;
+    }
+
+    public void setDumbledoresArmy(boolean dumbledoresArmy) {
+        this.dumbledoresArmy = dumbledoresArmy;
+    }
+
+    public boolean isDeathEater() {
+        return deathEater;
+    }
+
+    public void setDeathEater(boolean deathEater) {
+        this.deathEater = deathEater;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Character character = (Character) o;
+        return ministryOfMagic == character.ministryOfMagic &&
+                orderOfThePhoenix == character.orderOfThePhoenix &&
+                dumbledoresArmy == character.dumbledoresArmy &&
+                deathEater == character.deathEater &&
+                version == character.version &&
+                Objects.equals(id, character.id) &&
+                Objects.equals(name, character.name) &&
+                Objects.equals(role, character.role) &&
+                Objects.equals(house, character.house) &&
+                Objects.equals(school, character.school) &&
+                Objects.equals(bloodStatus, character.bloodStatus) &&
+                Objects.equals(species, character.species) &&
+                Objects.equals(alias, character.alias) &&
+                Objects.equals(wand, character.wand) &&
+                Objects.equals(boggart, character.boggart) &&
+                Objects.equals(patronus, character.patronus) &&
+                Objects.equals(animagus, character.animagus);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, house);
+    }
 
+    @Override
+    public String toString() {
+        return "Character{" +
+                "id='" + id + '\'' +
+                ", name='" + name + '\'' +
+                ", role='" + role + '\'' +
+                ", house='" + house + '\'' +
+                ", school='" + school + '\'' +
+                ", bloodStatus='" + bloodStatus + '\'' +
+                ", species='" + species + '\'' +
+                ", ministryOfMagic=" + ministryOfMagic +
+                ", orderOfThePhoenix=" + orderOfThePhoenix +
+                ", dumbledoresArmy=" + dumbledoresArmy +
+                ", deathEater=" + deathEater +
+                '}';
+    }
 }
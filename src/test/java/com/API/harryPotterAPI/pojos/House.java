@@ -1,12 +1,86 @@
 package com.API.harryPotterAPI.pojos;
 
+import com.API.utilities.JsonBinder;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.util.ArrayList;
+import java.util.List;
+
 public class House {
+    /*
+    /houses lists members as plain id strings, /houses/{id} as {"_id": ..., "name": ...} objects.
+    Both are bound to the member ids.
+     */
+    public static final JsonBinder<House> BINDER = JsonBinder.builder(House::new).
+            string("_id", House::setId).
+            string("name", House::setName).
+            string("mascot", House::setMascot).
+            string("headOfHouse", House::setHeadOfHouse).
+            string("houseGhost", House::setHouseGhost).
+            string("founder", House::setFounder).
+            string("school", House::setSchool).
+            stringList("values", House::setValues).
+            stringList("colors", House::setColors).
+            field("members", (parser, house) -> {
+                if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                    house.setMembers(null);
+                    return;
+                }
+                JsonBinder.expect(parser, JsonToken.START_ARRAY, "members");
+                List<String> members = new ArrayList<>();
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    String element = "members[" + members.size() + "]";
+                    if (token == JsonToken.VALUE_STRING) {
+                        members.add(parser.getText());
+                        continue;
+                    }
+                    JsonBinder.expect(parser, JsonToken.START_OBJECT, element);
+                    String id = null;
+                    while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                        String field = parser.getCurrentName();
+                        parser.nextToken();
+                        if ("_id".equals(field)) {
+                            id = JsonBinder.readString(parser);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    JsonBinder.expect(parser, JsonToken.END_OBJECT, element);
+                    if (id != null) {
+                        members.add(id);
+                    }
+                }
+                house.setMembers(members);
+            }).
+            build();
+
+    private String id;
     private String name;
+    private String mascot;
+    private String headOfHouse;
+    private String houseGhost;
+    private String founder;
+    private String school;
+    private List<String> members;
+    private List<String> values;
+    private List<String> colors;
+
+    public House() {
+    }
 
     public House(String name){
         this.name = name;
     }
 
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
     public String getName() {
         return name;
     }
@@ -15,10 +89,76 @@ public class House {
         this.name = name;
     }
 
+    public String getMascot() {
+        return mascot;
+    }
+
+    public void setMascot(String mascot) {
+        this.mascot = mascot;
+    }
+
+    public String getHeadOfHouse() {
+        return headOfHouse;
+    }
+
+    public void setHeadOfHouse(String headOfHouse) {
+        this.headOfHouse = headOfHouse;
+    }
+
+    public String getHouseGhost() {
+        return houseGhost;
+    }
+
+    public void setHouseGhost(String houseGhost) {
+        this.houseGhost = houseGhost;
+    }
+
+    public String getFounder() {
+        return founder;
+    }
+
+    public void setFounder(String founder) {
+        this.founder = founder;
+    }
+
+    public String getSchool() {
+        return school;
+    }
+
+    public void setSchool(String school) {
+        this.school = school;
+    }
+
+    public List<String> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<String> members) {
+        this.members = members;
+    }
+
+    public List<String> getValues() {
+        return values;
+    }
+
+    public void setValues(List<String> values) {
+        this.values = values;
+    }
+
+    public List<String> getColors() {
+        return colors;
+    }
+
+    public void setColors(List<String> colors) {
+        this.colors = colors;
+    }
+
     @Override
     public String toString() {
         return "House{" +
-                "name='" + name + '\'' +
+                "id='" + id + '\'' +
+                ", name='" + name + '\'' +
+                ", members=" + (members == null ? 0 : members.size()) +
                 '}';
     }
 }
@@ -0,0 +1,43 @@
+package com.API.harryPotterAPI.pojos;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class HouseTest {
+
+    private static List<House> read(String json) {
+        return House.BINDER.readList(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void bindsMemberIdsAndMemberObjects(){
+        List<House> houses = read("[{\"_id\":\"h\",\"name\":\"G\",\"members\":[\"a\",{\"_id\":\"b\",\"name\":\"B\"}],\"mascot\":\"lion\"}]");
+        assertThat(houses.get(0).getMembers(), is(List.of("a", "b")));
+        assertThat(houses.get(0).getMascot(), is("lion"));
+    }
+
+    @Test
+    public void nullMembers(){
+        assertThat(read("[{\"name\":\"G\",\"members\":null}]").get(0).getMembers(), is(nullValue()));
+    }
+
+    @Test
+    public void membersThatAreNotAnArrayFail(){
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                assertThrows(IllegalStateException.class, () -> read("[{\"_id\":\"h\",\"name\":\"G\",\"members\":\"oops\",\"mascot\":\"lion\"}]")));
+    }
+
+    @Test
+    public void membersOfAnotherTypeFail(){
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> read("[{\"name\":\"G\",\"members\":[1,2],\"mascot\":\"lion\"}]"));
+        assertThat(e.getMessage(), containsString("members[0]"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.API.load;
+
+import com.API.githubAPI.GitAPITests;
+import com.API.harryPotterAPI.HarryPotterAPITest;
+import com.API.utilities.LoadProfile;
+import com.API.utilities.LoadReport;
+import com.API.utilities.LoadRunner;
+import com.API.utilities.LoadScenario;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+
+/*
+Soak test built from the functional scenarios. Excluded from the default build, run it with
+    mvn test -Pload -Dapi.mode=replay -Dload.concurrency=50 -Dload.durationSeconds=60
+or for an open model
+    mvn test -Pload -Dapi.mode=replay -Dload.rate=200 -Dload.rampUpSeconds=10
+The report goes to target/load-report.json; the run fails when more than load.maxErrorRate (default 0.01) of the
+runs fail or, in the open model, are dropped because too many runs were already in flight.
+ */
+@Tag("load")
+public class ApiLoadTest {
+
+    @Test
+    public void soakFunctionalScenarios(){
+        GitAPITests github = new GitAPITests();
+        HarryPotterAPITest potter = new HarryPotterAPITest();
+
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        LoadReport report = new LoadRunner(profile,
+                LoadScenario.of("verifyOrganizationInformation",
+                        () -> github.verifyOrganizationInformation("cucumber", "Cucumber", 320565)),
+                LoadScenario.of("verifyErrorMessage",
+                        () -> github.verifyErrorMessage("cucumber", "Cucumber", 320565)),
+                LoadScenario.of("verifyNameSearch", potter::verifyNameSearch),
+                LoadScenario.of("verifyBadKey",
+                        () -> potter.verifyKey("invalid", 401, "Unauthorized", "API Key Not Found"))).
+                run();
+
+        report.writeTo(Paths.get(System.getProperty("load.report", "target/load-report.json")));
+        report.assertErrorRateAtMost(Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01")));
+    }
+}
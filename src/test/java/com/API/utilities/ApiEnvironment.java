@@ -0,0 +1,95 @@
+package com.API.utilities;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.specification.RequestSpecification;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the request specification each test class talks to for the current {@link ApiMode}.
+ * In replay mode one {@link StubServer} is started per upstream origin and reused for the whole JVM.
+ * Every specification carries the shared filters: the {@link ExchangeLoggingFilter}, the {@link ResponseCache}
+ * (disable with {@code -Dapi.cache=false}), the {@link ConditionalRequestCache} in live mode (disable with
+ * {@code -Dapi.etag=false}), the {@link RateLimitScheduler} outside replay mode (disable with {@code -Dapi.ratelimit=false}),
+ * the {@link LatencyRecorder} and, in record mode, the {@link RecordingFilter}.
+ * Requests go through the shared {@link PooledHttpClient}, with bodies fetched gzipped and read and decompressed
+ * once by the {@link BodyBufferingFilter}.
+ * Nothing here touches RestAssured's static configuration, so test classes can run in parallel.
+ */
+public class ApiEnvironment {
+    private static final ApiMode MODE = ApiMode.current();
+    private static final FixtureStore STORE = FixtureStore.fromSystemProperties();
+    private static final Map<String, StubServer> STUBS = new ConcurrentHashMap<>();
+    private static final ResponseCache CACHE = ResponseCache.fromSystemProperties();
+    private static final ConditionalRequestCache CONDITIONAL_CACHE = ConditionalRequestCache.fromSystemProperties();
+    private static final RateLimitScheduler RATE_LIMITER = RateLimitScheduler.fromSystemProperties();
+
+    static {
+        JsonReport.atExit("api.cache.report", "target/response-cache.json",
+                () -> CACHE.getHits() + CACHE.getMisses() == 0 ? Map.of() : CACHE.summary());
+    }
+
+    private ApiEnvironment() {
+    }
+
+    public static ApiMode mode() {
+        return MODE;
+    }
+
+    public static ResponseCache responseCache() {
+        return CACHE;
+    }
+
+    public static RequestSpecification requestSpec(String upstreamBaseUri) {
+        return new RequestSpecBuilder().
+                setBaseUri(baseUri(upstreamBaseUri)).
+                setConfig(PooledHttpClient.config()).
+                addFilters(sharedFilters()).
+                build();
+    }
+
+    public static ConditionalRequestCache conditionalCache() {
+        return CONDITIONAL_CACHE;
+    }
+
+    public static RateLimitScheduler rateLimiter() {
+        return RATE_LIMITER;
+    }
+
+    public static String baseUri(String upstreamBaseUri) {
+        if (MODE != ApiMode.REPLAY) {
+            return upstreamBaseUri;
+        }
+        URI upstream = URI.create(upstreamBaseUri);
+        String origin = upstream.getScheme() + "://" + upstream.getAuthority();
+        StubServer stub = STUBS.computeIfAbsent(origin, o -> StubServer.start(o, STORE));
+        return stub.getOrigin() + (upstream.getRawPath() == null ? "" : upstream.getRawPath());
+    }
+
+    private static List<Filter> sharedFilters() {
+        List<Filter> filters = new ArrayList<>();
+        filters.add(new ExchangeLoggingFilter());
+        if (Boolean.parseBoolean(System.getProperty("api.cache", "true"))) {
+            filters.add(CACHE);
+        }
+        // only pays off against the real upstream, and a recording must hold full bodies, never 304s
+        if (Boolean.parseBoolean(System.getProperty("api.etag", "true")) && MODE == ApiMode.LIVE) {
+            filters.add(CONDITIONAL_CACHE);
+        }
+        // replayed quota headers are stale, pacing on them would only slow the run down
+        if (Boolean.parseBoolean(System.getProperty("api.ratelimit", "true")) && MODE != ApiMode.REPLAY) {
+            filters.add(RATE_LIMITER);
+        }
+        filters.add(LatencyRecorder.instance());
+        filters.add(new BodyBufferingFilter());
+        if (MODE == ApiMode.RECORD) {
+            filters.add(new RecordingFilter(STORE));
+        }
+        return filters;
+    }
+}
@@ -0,0 +1,22 @@
+package com.API.utilities;
+
+/**
+ * How the suite talks to the upstream APIs. Selected with {@code -Dapi.mode=live|record|replay}.
+ */
+public enum ApiMode {
+    /** Every request goes to the real upstream host. */
+    LIVE,
+    /** Requests go to the real upstream host and every exchange is written to the fixture store. */
+    RECORD,
+    /** Requests are served from the fixture store by an in-process stub; no network is used. */
+    REPLAY;
+
+    public static ApiMode current() {
+        String mode = System.getProperty("api.mode", "live");
+        try {
+            return valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unknown api.mode '" + mode + "', expected live, record or replay");
+        }
+    }
+}
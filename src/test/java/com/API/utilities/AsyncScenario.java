@@ -0,0 +1,117 @@
+package com.API.utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Multi-step test scenario whose steps declare the steps they need. A step without inputs starts right away, a step
+ * with inputs starts as soon as they complete, so independent requests overlap and the scenario takes as long as its
+ * critical path. Steps run on a shared executor (virtual threads when available) and log into the calling test's
+ * {@link ExchangeLog}.
+ * <pre>
+ * AsyncScenario scenario = new AsyncScenario();
+ * Step&lt;String&gt; id = scenario.step("house id", () -&gt; ...);
+ * Step&lt;List&lt;Object&gt;&gt; members = scenario.step("members", id, houseId -&gt; ...);
+ * Step&lt;List&lt;Object&gt;&gt; characters = scenario.step("characters", () -&gt; ...);
+ * assertThat(characters.join(), is(members.join()));
+ * </pre>
+ */
+public class AsyncScenario {
+    private static final ExecutorService SHARED = Threads.newPerTaskExecutor("scenario-step");
+
+    private final ExecutorService executor;
+    private final List<Step<?>> steps = new ArrayList<>();
+
+    public AsyncScenario() {
+        this(SHARED);
+    }
+
+    public AsyncScenario(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    public <T> Step<T> step(String name, Supplier<T> action) {
+        Supplier<T> logged = logged(action);
+        return register(new Step<>(name, CompletableFuture.supplyAsync(logged, executor)));
+    }
+
+    public <A, T> Step<T> step(String name, Step<A> input, Function<? super A, ? extends T> action) {
+        // the input is complete by the time this runs; joining it here keeps the log captured on the caller's thread
+        Supplier<T> logged = logged(() -> action.apply(input.future.join()));
+        return register(new Step<>(name, input.future.thenApplyAsync(a -> logged.get(), executor)));
+    }
+
+    public <A, B, T> Step<T> step(String name, Step<A> first, Step<B> second,
+                                  BiFunction<? super A, ? super B, ? extends T> action) {
+        Supplier<T> logged = logged(() -> action.apply(first.future.join(), second.future.join()));
+        return register(new Step<>(name, first.future.thenCombineAsync(second.future, (a, b) -> logged.get(), executor)));
+    }
+
+    /**
+     * Waits for every step and rethrows the failure of the first failing one in declaration order, which is the
+     * root cause when later steps failed only because their input did.
+     */
+    public void await() {
+        try {
+            CompletableFuture.allOf(steps.stream().map(step -> step.future).toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ignored) {
+            // reported per step below
+        }
+        steps.forEach(Step::join);
+    }
+
+    private <T> Step<T> register(Step<T> step) {
+        steps.add(step);
+        return step;
+    }
+
+    private static <T> Supplier<T> logged(Supplier<T> action) {
+        Callable<T> task = ExchangeLog.propagate(action::get);
+        return () -> {
+            try {
+                return task.call();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    public static class Step<T> {
+        private final String name;
+        private final CompletableFuture<T> future;
+
+        private Step(String name, CompletableFuture<T> future) {
+            this.name = name;
+            this.future = future;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * The step's result, waiting for it if needed. A failed assertion is rethrown as an {@link AssertionError}
+         * naming the step; any other failure as an {@link IllegalStateException}.
+         */
+        public T join() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof AssertionError) {
+                    throw new AssertionError("Step '" + name + "' failed: " + cause.getMessage(), cause);
+                }
+                throw new IllegalStateException("Step '" + name + "' failed: " + cause, cause);
+            }
+        }
+    }
+}
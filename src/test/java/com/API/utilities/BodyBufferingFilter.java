@@ -0,0 +1,83 @@
+package com.API.utilities;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads every response body into memory right away, as raw bytes, and decompresses it exactly once. With the shared
+ * {@link PooledHttpClient} a connection only goes back to the pool once its body is consumed, and a test that checks
+ * nothing but the status code would otherwise hold it until the pool runs dry.
+ * <p>
+ * Requests ask for {@code Accept-Encoding: gzip, deflate} unless the test sets its own; RestAssured's own decoders are
+ * switched off in {@link PooledHttpClient}, so this filter sits next to the network and hands decoded bytes to every
+ * other filter and to the test. Wire size, decoded size and decode time go to {@link TransferStats}.
+ */
+public class BodyBufferingFilter implements OrderedFilter {
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!requestSpec.getHeaders().hasHeaderWithName("Accept-Encoding")) {
+            requestSpec.header("Accept-Encoding", "gzip, deflate");
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        byte[] wire = response.asByteArray();
+        String encoding = response.getHeader("Content-Encoding");
+        String endpoint = requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath();
+        if (encoding == null || wire.length == 0 || "identity".equalsIgnoreCase(encoding.trim())) {
+            TransferStats.instance().record(endpoint, wire.length, wire.length, false, 0);
+            return response;
+        }
+        long start = System.nanoTime();
+        byte[] body = decode(wire, encoding.trim());
+        TransferStats.instance().record(endpoint, wire.length, body.length, true, System.nanoTime() - start);
+        return new ResponseBuilder().clone(response).
+                setHeaders(withoutEncoding(response.getHeaders())).
+                setBody(body).
+                build();
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrder.BODY_BUFFERING;
+    }
+
+    private static byte[] decode(byte[] wire, String encoding) {
+        try (InputStream in = "gzip".equalsIgnoreCase(encoding) || "x-gzip".equalsIgnoreCase(encoding)
+                ? new GZIPInputStream(new ByteArrayInputStream(wire), 8192)
+                : new InflaterInputStream(new ByteArrayInputStream(wire))) {
+            // compressed JSON usually inflates four to ten times
+            ByteArrayOutputStream out = new ByteArrayOutputStream(wire.length * 6);
+            in.transferTo(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode " + encoding + " response body", e);
+        }
+    }
+
+    private static Headers withoutEncoding(Headers headers) {
+        List<Header> kept = new ArrayList<>();
+        for (Header header : headers) {
+            if (!header.getName().equalsIgnoreCase("Content-Encoding") && !header.getName().equalsIgnoreCase("Content-Length")) {
+                kept.add(header);
+            }
+        }
+        return new Headers(kept);
+    }
+}
@@ -0,0 +1,54 @@
+package com.API.utilities;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Searches response bodies as bytes, so checking for a fragment needs no decoded copy of the body, and hashes them.
+ */
+public final class Bytes {
+    private Bytes() {
+    }
+
+    public static boolean contains(byte[] body, String fragment) {
+        return indexOf(body, fragment.getBytes(StandardCharsets.UTF_8)) >= 0;
+    }
+
+    public static int indexOf(byte[] body, byte[] fragment) {
+        if (fragment.length == 0) {
+            return 0;
+        }
+        byte first = fragment[0];
+        int last = body.length - fragment.length;
+        outer:
+        for (int i = 0; i <= last; i++) {
+            if (body[i] != first) {
+                continue;
+            }
+            for (int j = 1; j < fragment.length; j++) {
+                if (body[i + j] != fragment[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * SHA-256 of the bytes as 64 lowercase hex digits.
+     */
+    public static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
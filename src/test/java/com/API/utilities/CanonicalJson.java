@@ -0,0 +1,197 @@
+package com.API.utilities;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Canonical form of a JSON document: object keys sorted, ignored fields dropped at any depth, no whitespace and
+ * numbers kept exactly as written. Two documents that differ only in key order or in ignored fields have the same
+ * canonical bytes, and so the same hash. {@link #diff} lists the structural differences of two parsed documents.
+ */
+public final class CanonicalJson {
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private CanonicalJson() {
+    }
+
+    /**
+     * Parses into {@link TreeMap}s, {@link List}s, strings, booleans, {@link JsonNumber}s and {@code null}.
+     */
+    public static Object parse(byte[] json, Set<String> ignoredFields) {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            return read(parser, parser.nextToken(), ignoredFields);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed JSON", e);
+        }
+    }
+
+    public static byte[] write(Object tree) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = FACTORY.createGenerator(out)) {
+            write(generator, tree);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Differences from {@code expected} to {@code actual}, one line per differing path, at most {@code limit} lines.
+     */
+    public static List<String> diff(Object expected, Object actual, int limit) {
+        List<String> differences = new ArrayList<>();
+        diff("$", expected, actual, differences, limit);
+        return differences;
+    }
+
+    private static Object read(JsonParser parser, JsonToken token, Set<String> ignored) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                Map<String, Object> object = new TreeMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+                    if (ignored.contains(name)) {
+                        parser.skipChildren();
+                    } else {
+                        object.put(name, read(parser, value, ignored));
+                    }
+                }
+                return object;
+            case START_ARRAY:
+                List<Object> array = new ArrayList<>();
+                JsonToken element;
+                while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    array.add(read(parser, element, ignored));
+                }
+                return array;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return new JsonNumber(parser.getText());
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new IllegalStateException("Unexpected " + token + " at " + parser.getCurrentLocation());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void write(JsonGenerator generator, Object value) throws IOException {
+        if (value instanceof Map) {
+            generator.writeStartObject();
+            for (Map.Entry<String, Object> field : ((Map<String, Object>) value).entrySet()) {
+                generator.writeFieldName(field.getKey());
+                write(generator, field.getValue());
+            }
+            generator.writeEndObject();
+        } else if (value instanceof List) {
+            generator.writeStartArray();
+            for (Object element : (List<Object>) value) {
+                write(generator, element);
+            }
+            generator.writeEndArray();
+        } else if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof JsonNumber) {
+            generator.writeNumber(value.toString());
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void diff(String path, Object expected, Object actual, List<String> out, int limit) {
+        if (out.size() >= limit || Objects.equals(expected, actual)) {
+            return;
+        }
+        if (expected instanceof Map && actual instanceof Map) {
+            Map<String, Object> expectedObject = (Map<String, Object>) expected;
+            Map<String, Object> actualObject = (Map<String, Object>) actual;
+            for (Map.Entry<String, Object> field : expectedObject.entrySet()) {
+                if (!actualObject.containsKey(field.getKey())) {
+                    add(out, limit, path + "." + field.getKey() + " is missing");
+                } else {
+                    diff(path + "." + field.getKey(), field.getValue(), actualObject.get(field.getKey()), out, limit);
+                }
+            }
+            for (String name : actualObject.keySet()) {
+                if (!expectedObject.containsKey(name)) {
+                    add(out, limit, path + "." + name + " is new: " + abbreviate(actualObject.get(name)));
+                }
+            }
+        } else if (expected instanceof List && actual instanceof List) {
+            Iterator<Object> expectedElements = ((List<Object>) expected).iterator();
+            Iterator<Object> actualElements = ((List<Object>) actual).iterator();
+            int index = 0;
+            while (expectedElements.hasNext() && actualElements.hasNext()) {
+                diff(path + "[" + index++ + "]", expectedElements.next(), actualElements.next(), out, limit);
+            }
+            int expectedSize = ((List<Object>) expected).size();
+            int actualSize = ((List<Object>) actual).size();
+            if (expectedSize != actualSize) {
+                add(out, limit, path + " has " + actualSize + " elements, snapshot has " + expectedSize);
+            }
+        } else {
+            add(out, limit, path + " was " + abbreviate(actual) + ", snapshot has " + abbreviate(expected));
+        }
+    }
+
+    private static void add(List<String> out, int limit, String difference) {
+        if (out.size() < limit) {
+            out.add(difference);
+        }
+    }
+
+    private static String abbreviate(Object value) {
+        String text = value instanceof String ? "'" + value + "'" : new String(write(value), StandardCharsets.UTF_8);
+        return text.length() > 80 ? text.substring(0, 77) + "..." : text;
+    }
+
+    /**
+     * A JSON number as written, so canonical output never reformats it.
+     */
+    public static final class JsonNumber {
+        private final String text;
+
+        JsonNumber(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof JsonNumber && text.equals(((JsonNumber) o).text);
+        }
+
+        @Override
+        public int hashCode() {
+            return text.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.API.utilities;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * On-disk cache of GET responses that carry an {@code ETag} or {@code Last-Modified} header, kept across runs
+ * in {@code api.etag.dir} (default {@code target/http-cache}). A repeated GET is sent with {@code If-None-Match} /
+ * {@code If-Modified-Since}; when the server answers 304 the stored body is served as a 200, which costs no body
+ * download and, on GitHub, no rate-limit quota. Every request still goes to the server, so data is never stale.
+ */
+public class ConditionalRequestCache implements OrderedFilter {
+    private static final List<String> BODY_HEADERS = Arrays.asList("content-length", "content-type", "transfer-encoding");
+
+    private final FixtureStore store;
+    private final AtomicLong revalidated = new AtomicLong();
+    private final AtomicLong downloaded = new AtomicLong();
+
+    public ConditionalRequestCache(FixtureStore store) {
+        this.store = store;
+    }
+
+    public static ConditionalRequestCache fromSystemProperties() {
+        return new ConditionalRequestCache(new FixtureStore(Paths.get(System.getProperty("api.etag.dir", "target/http-cache"))));
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!"GET".equalsIgnoreCase(requestSpec.getMethod())) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        String key = key(requestSpec);
+        Optional<FixtureStore.Fixture> stored = store.find(key);
+        stored.ifPresent(fixture -> {
+            headerOf(fixture, "ETag").ifPresent(etag -> requestSpec.header("If-None-Match", etag));
+            headerOf(fixture, "Last-Modified").ifPresent(date -> requestSpec.header("If-Modified-Since", date));
+        });
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.getStatusCode() == 304 && stored.isPresent()) {
+            revalidated.incrementAndGet();
+            return fromStore(response, stored.get());
+        }
+        downloaded.incrementAndGet();
+        if (response.getStatusCode() == 200 && (response.getHeader("ETag") != null || response.getHeader("Last-Modified") != null)) {
+            List<List<String>> headers = new ArrayList<>();
+            for (Header header : response.getHeaders()) {
+                headers.add(Arrays.asList(header.getName(), header.getValue()));
+            }
+            store.save(key, 200, headers, response.asString());
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrder.CONDITIONAL_CACHE;
+    }
+
+    public long getRevalidated() {
+        return revalidated.get();
+    }
+
+    public long getDownloaded() {
+        return downloaded.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ConditionalRequestCache{revalidated=" + revalidated + ", downloaded=" + downloaded + '}';
+    }
+
+    /**
+     * Responses differ per credential (private repos, per-token quota), so a hash of the Authorization header is part
+     * of the key; the header itself never ends up on disk.
+     */
+    private static String key(FilterableRequestSpecification requestSpec) {
+        String authorization = requestSpec.getHeaders().getValue("Authorization");
+        String key = FixtureStore.key(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getHeaders().getValue("Accept"));
+        if (authorization == null) {
+            return key;
+        }
+        return key + " auth=" + Bytes.sha256(authorization.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    }
+
+    private static Response fromStore(Response notModified, FixtureStore.Fixture fixture) {
+        List<Header> headers = new ArrayList<>();
+        String contentType = null;
+        for (List<String> header : fixture.getHeaders()) {
+            headers.add(new Header(header.get(0), header.get(1)));
+            if ("Content-Type".equalsIgnoreCase(header.get(0))) {
+                contentType = header.get(1);
+            }
+        }
+        // keep the fresh rate-limit and date headers of the 304 over the stored ones
+        for (Header header : notModified.getHeaders()) {
+            if (BODY_HEADERS.contains(header.getName().toLowerCase())) {
+                continue;
+            }
+            headers.removeIf(existing -> existing.getName().equalsIgnoreCase(header.getName()));
+            headers.add(header);
+        }
+        notModified.asByteArray();
+        ResponseBuilder builder = new ResponseBuilder().clone(notModified).
+                setStatusCode(200).
+                setStatusLine("HTTP/1.1 200 OK").
+                setHeaders(new Headers(headers)).
+                setBody(fixture.getBody().getBytes(StandardCharsets.UTF_8));
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+
+    private static Optional<String> headerOf(FixtureStore.Fixture fixture, String name) {
+        return fixture.getHeaders().stream().
+                filter(header -> header.get(0).equalsIgnoreCase(name)).
+                map(header -> header.get(1)).
+                findFirst();
+    }
+}
@@ -0,0 +1,123 @@
+package com.API.utilities;
+
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/*
+The StubServer answers a conditional GET with a 304 when the validator matches its fixture, as GitHub does, so the
+ConditionalRequestCache can run against it outside live mode.
+ */
+public class ConditionalRequestCacheTest {
+    private static final String UPSTREAM = "https://api.github.com";
+    private static final String LAST_MODIFIED = "Tue, 02 Jun 2020 10:00:00 GMT";
+
+    @TempDir
+    static Path dir;
+    private static StubServer stub;
+
+    @BeforeAll
+    public static void startStub() {
+        FixtureStore fixtures = new FixtureStore(dir.resolve("fixtures"));
+        fixtures.save(FixtureStore.key("GET", UPSTREAM + "/orgs/cucumber", "application/json"), 200,
+                List.of(List.of("Content-Type", "application/json; charset=utf-8"), List.of("ETag", "\"v1\"")),
+                "{\"login\":\"cucumber\"}");
+        fixtures.save(FixtureStore.key("GET", UPSTREAM + "/orgs/cucumber/repos", "application/json"), 200,
+                List.of(List.of("Content-Type", "application/json; charset=utf-8"), List.of("Last-Modified", LAST_MODIFIED)),
+                "[{\"name\":\"cucumber-jvm\"}]");
+        fixtures.save(FixtureStore.key("GET", UPSTREAM + "/orgs/cucumber/members", "application/json"), 200,
+                List.of(List.of("Content-Type", "application/json; charset=utf-8")),
+                "[]");
+        stub = StubServer.start(UPSTREAM, fixtures);
+    }
+
+    @AfterAll
+    public static void stopStub() {
+        stub.stop();
+    }
+
+    private static Response get(ConditionalRequestCache cache, String path, String authorization) {
+        return given().
+                filters(cache, new BodyBufferingFilter()).
+                config(PooledHttpClient.config()).
+                baseUri(stub.getOrigin()).
+                header("Accept", "application/json").
+                headers(authorization == null ? Map.of() : Map.of("Authorization", authorization)).
+        when().
+                get(path);
+    }
+
+    @Test
+    public void etagRevalidationServesTheStoredBody() {
+        ConditionalRequestCache cache = new ConditionalRequestCache(new FixtureStore(dir.resolve("etag")));
+        Response first = get(cache, "/orgs/cucumber", null);
+        Response second = get(cache, "/orgs/cucumber", null);
+
+        assertThat(cache.getDownloaded(), is(1L));
+        assertThat(cache.getRevalidated(), is(1L));
+        assertThat(second.statusCode(), is(200));
+        assertThat(second.asString(), is(first.asString()));
+        assertThat(second.jsonPath().getString("login"), is("cucumber"));
+        assertThat(second.getHeader("ETag"), is("\"v1\""));
+    }
+
+    @Test
+    public void lastModifiedRevalidationServesTheStoredBody() {
+        ConditionalRequestCache cache = new ConditionalRequestCache(new FixtureStore(dir.resolve("last-modified")));
+        get(cache, "/orgs/cucumber/repos", null);
+        Response second = get(cache, "/orgs/cucumber/repos", null);
+
+        assertThat(cache.getRevalidated(), is(1L));
+        assertThat(second.statusCode(), is(200));
+        assertThat(second.jsonPath().getString("[0].name"), is("cucumber-jvm"));
+    }
+
+    @Test
+    public void responsesWithoutValidatorsAreNotStored() {
+        ConditionalRequestCache cache = new ConditionalRequestCache(new FixtureStore(dir.resolve("no-validator")));
+        get(cache, "/orgs/cucumber/members", null);
+        get(cache, "/orgs/cucumber/members", null);
+
+        assertThat(cache.getDownloaded(), is(2L));
+        assertThat(cache.getRevalidated(), is(0L));
+        assertThat(Files.exists(dir.resolve("no-validator")), is(false));
+    }
+
+    @Test
+    public void eachCredentialRevalidatesItsOwnCopy() throws IOException {
+        Path store = dir.resolve("credentials");
+        ConditionalRequestCache cache = new ConditionalRequestCache(new FixtureStore(store));
+        get(cache, "/orgs/cucumber", "token first-secret");
+        get(cache, "/orgs/cucumber", "token second-secret");
+        assertThat(cache.getDownloaded(), is(2L));
+        assertThat(cache.getRevalidated(), is(0L));
+
+        get(cache, "/orgs/cucumber", "token first-secret");
+        get(cache, "/orgs/cucumber", "token second-secret");
+        assertThat(cache.getRevalidated(), is(2L));
+
+        // the key holds a hash of the credential, never the credential itself
+        try (Stream<Path> files = Files.walk(store)) {
+            List<Path> stored = files.filter(Files::isRegularFile).collect(Collectors.toList());
+            assertThat(stored, hasSize(2));
+            for (Path file : stored) {
+                assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), not(containsString("secret")));
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.API.utilities;
+
+import groovy.json.JsonOutput;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded ring buffer of the HTTP exchanges made by one test. Exchanges are kept raw and only formatted when the
+ * test fails and the buffer is dumped, on a background writer so the test thread does not wait for stdout.
+ * Keeps the last {@code api.log.exchanges} exchanges (default 20), bodies cut at {@code api.log.maxBody} bytes.
+ */
+public class ExchangeLog {
+    private static final int CAPACITY = Integer.getInteger("api.log.exchanges", 20);
+    private static final int MAX_BODY = Integer.getInteger("api.log.maxBody", 64 * 1024);
+    private static final ThreadLocal<ExchangeLog> CURRENT = new ThreadLocal<>();
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "exchange-log-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            WRITER.shutdown();
+            try {
+                WRITER.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+    }
+
+    private final String testName;
+    private final Deque<Exchange> exchanges = new ArrayDeque<>();
+    private int dropped;
+
+    public ExchangeLog(String testName) {
+        this.testName = testName;
+    }
+
+    public static ExchangeLog current() {
+        return CURRENT.get();
+    }
+
+    static void attach(ExchangeLog log) {
+        CURRENT.set(log);
+    }
+
+    static void detach() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Makes a task submitted to another thread log into the submitting test's buffer.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        ExchangeLog log = CURRENT.get();
+        return () -> {
+            ExchangeLog previous = CURRENT.get();
+            CURRENT.set(log);
+            try {
+                return task.call();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public synchronized void add(Exchange exchange) {
+        if (exchanges.size() == CAPACITY) {
+            exchanges.removeFirst();
+            dropped++;
+        }
+        exchanges.addLast(exchange);
+    }
+
+    public void dumpAsync(Throwable failure) {
+        List<Exchange> snapshot;
+        int droppedSoFar;
+        synchronized (this) {
+            snapshot = new ArrayList<>(exchanges);
+            droppedSoFar = dropped;
+        }
+        WRITER.execute(() -> {
+            StringBuilder out = new StringBuilder();
+            out.append("===== ").append(testName).append(" failed: ").append(failure).append('\n');
+            if (droppedSoFar > 0) {
+                out.append("(").append(droppedSoFar).append(" earlier exchange(s) not kept)\n");
+            }
+            for (Exchange exchange : snapshot) {
+                exchange.appendTo(out);
+            }
+            out.append("===== end of ").append(testName).append('\n');
+            System.out.print(out);
+        });
+    }
+
+    public static class Exchange {
+        private final String method;
+        private final String uri;
+        private final String requestHeaders;
+        private final String requestBody;
+        private final String statusLine;
+        private final String responseHeaders;
+        private final byte[] responseBody;
+        private final long millis;
+
+        public Exchange(String method, String uri, String requestHeaders, String requestBody,
+                        String statusLine, String responseHeaders, byte[] responseBody, long millis) {
+            this.method = method;
+            this.uri = uri;
+            this.requestHeaders = requestHeaders;
+            this.requestBody = requestBody;
+            this.statusLine = statusLine;
+            this.responseHeaders = responseHeaders;
+            this.responseBody = responseBody;
+            this.millis = millis;
+        }
+
+        void appendTo(StringBuilder out) {
+            out.append("--> ").append(method).append(' ').append(uri).append('\n');
+            out.append(requestHeaders).append('\n');
+            if (requestBody != null) {
+                out.append(requestBody).append('\n');
+            }
+            out.append("<-- ").append(statusLine).append(" (").append(millis).append(" ms)\n");
+            out.append(responseHeaders).append('\n');
+            out.append(pretty(responseBody)).append("\n\n");
+        }
+
+        private static String pretty(byte[] body) {
+            if (body == null || body.length == 0) {
+                return "<empty body>";
+            }
+            boolean truncated = body.length > MAX_BODY;
+            String text = new String(body, 0, Math.min(body.length, MAX_BODY), StandardCharsets.UTF_8);
+            if (truncated) {
+                return text + "\n... (" + (body.length - MAX_BODY) + " more bytes)";
+            }
+            try {
+                return JsonOutput.prettyPrint(text);
+            } catch (RuntimeException notJson) {
+                return text;
+            }
+        }
+    }
+}
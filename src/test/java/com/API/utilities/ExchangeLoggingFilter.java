@@ -0,0 +1,37 @@
+package com.API.utilities;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Records each exchange into the running test's {@link ExchangeLog}, replacing {@code log().all()} and
+ * {@code prettyPeek()}. Sits first in the chain so it logs what the test sees, cached responses included.
+ * Does nothing outside a test that uses {@link FailureLogExtension}.
+ */
+public class ExchangeLoggingFilter implements OrderedFilter {
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        ExchangeLog log = ExchangeLog.current();
+        if (log == null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        Object body = requestSpec.getBody();
+        log.add(new ExchangeLog.Exchange(requestSpec.getMethod(), requestSpec.getURI(),
+                requestSpec.getHeaders().toString(), body == null ? null : body.toString(),
+                response.getStatusLine(), response.getHeaders().toString(), response.asByteArray(), millis));
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrder.LOGGING;
+    }
+}
@@ -0,0 +1,33 @@
+package com.API.utilities;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+/**
+ * Gives every test its own {@link ExchangeLog} and dumps it only when the test fails.
+ */
+public class FailureLogExtension implements BeforeEachCallback, AfterEachCallback, TestWatcher {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(FailureLogExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ExchangeLog log = new ExchangeLog(context.getRequiredTestClass().getSimpleName() + "." + context.getDisplayName());
+        context.getStore(NAMESPACE).put(ExchangeLog.class, log);
+        ExchangeLog.attach(log);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        ExchangeLog.detach();
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        ExchangeLog log = context.getStore(NAMESPACE).get(ExchangeLog.class, ExchangeLog.class);
+        if (log != null) {
+            log.dumpAsync(cause);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.API.utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Runs one check per item with at most {@code maxConcurrency} checks in flight (default {@code api.fanout.concurrency},
+ * 16). The caller's thread hands items out and blocks while that many are running, so a lazily produced stream is
+ * never read further ahead than the checks can keep up with. Every item is checked; failures are collected and
+ * reported together by {@link Result#assertAllPassed()}.
+ */
+public class FanOut {
+    private static final ExecutorService SHARED = Threads.newPerTaskExecutor("fan-out");
+    private static final int MAX_REPORTED = 20;
+
+    private final int maxConcurrency;
+    private final ExecutorService executor;
+
+    public FanOut(int maxConcurrency) {
+        this(maxConcurrency, SHARED);
+    }
+
+    public FanOut(int maxConcurrency, ExecutorService executor) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1 but was " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.executor = executor;
+    }
+
+    public static FanOut fromSystemProperties() {
+        return new FanOut(Integer.getInteger("api.fanout.concurrency", 16));
+    }
+
+    /**
+     * @param label names an item in the failure report, e.g. its id
+     */
+    public <T> Result verifyEach(Stream<T> items, Function<? super T, String> label, Consumer<? super T> check) {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        Result result = new Result();
+        items.forEachOrdered(item -> {
+            permits.acquireUninterruptibly();
+            Callable<Void> task = ExchangeLog.propagate(() -> {
+                try {
+                    check.accept(item);
+                    result.passed.incrementAndGet();
+                } catch (Throwable t) {
+                    result.failed(label.apply(item), t);
+                } finally {
+                    permits.release();
+                }
+                return null;
+            });
+            try {
+                executor.execute(() -> call(task));
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        });
+        // all permits back means every submitted check has finished
+        permits.acquireUninterruptibly(maxConcurrency);
+        permits.release(maxConcurrency);
+        return result;
+    }
+
+    public <T> Result verifyEach(List<T> items, Function<? super T, String> label, Consumer<? super T> check) {
+        return verifyEach(items.stream(), label, check);
+    }
+
+    private static void call(Callable<?> task) {
+        try {
+            task.call();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class Result {
+        private final AtomicLong passed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+
+        private void failed(String label, Throwable failure) {
+            if (failed.incrementAndGet() <= MAX_REPORTED) {
+                String message = String.valueOf(failure.getMessage()).trim().replaceAll("\\s+", " ");
+                failures.add(label + ": " + (failure instanceof AssertionError ? message : failure.toString()));
+            }
+        }
+
+        public long getPassed() {
+            return passed.get();
+        }
+
+        public long getFailed() {
+            return failed.get();
+        }
+
+        public List<String> failures() {
+            return new ArrayList<>(failures);
+        }
+
+        public void assertAllPassed() {
+            if (failed.get() > 0) {
+                throw new AssertionError(failed + " of " + (passed.get() + failed.get()) + " item(s) failed, first "
+                        + failures.size() + ":\n  " + String.join("\n  ", failures));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "FanOut.Result{passed=" + passed + ", failed=" + failed + '}';
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.API.utilities;
+
+/**
+ * Position of each shared filter in the RestAssured chain. Lower values run first (further from the network).
+ */
+public final class FilterOrder {
+    // only tags the request for the RateLimitScheduler
+    public static final int PRIORITY = 0;
+    public static final int LOGGING = 50;
+    public static final int CACHE = 100;
+    public static final int CONDITIONAL_CACHE = 200;
+    public static final int RATE_LIMIT = 250;
+    public static final int LATENCY = 300;
+    public static final int RECORDING = Integer.MAX_VALUE - 100;
+    // next to the network, so every other filter sees decompressed bodies
+    public static final int BODY_BUFFERING = Integer.MAX_VALUE;
+
+    private FilterOrder() {
+    }
+}
@@ -0,0 +1,134 @@
+package com.API.utilities;
+
+import groovy.json.JsonOutput;
+import groovy.json.JsonSlurper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Recorded request/response pairs on disk, one JSON file per exchange, grouped by upstream host.
+ * An exchange is identified by method, URI without query, sorted decoded query params and the Accept header,
+ * so the recording side (RestAssured) and the replaying side (the stub) compute the same key. The file name carries
+ * a readable form of the path and a SHA-256 prefix of the key; the key itself is stored in the file and checked on
+ * every lookup, so two exchanges can never be mixed up.
+ */
+public class FixtureStore {
+    private static final Set<String> SKIPPED_HEADERS = new HashSet<>(Arrays.asList(
+            "transfer-encoding", "content-length", "content-encoding", "connection", "keep-alive", "date"));
+
+    private final Path root;
+
+    public FixtureStore(Path root) {
+        this.root = root;
+    }
+
+    public static FixtureStore fromSystemProperties() {
+        return new FixtureStore(Paths.get(System.getProperty("api.fixtures.dir", "src/test/resources/fixtures")));
+    }
+
+    public static String key(String method, String uri, String accept) {
+        URI parsed = URI.create(uri);
+        String base = parsed.getScheme() + "://" + parsed.getAuthority() + parsed.getRawPath();
+        List<String> params = new ArrayList<>();
+        String query = parsed.getRawQuery();
+        if (query != null && !query.isEmpty()) {
+            for (String pair : query.split("&")) {
+                params.add(decode(pair));
+            }
+        }
+        Collections.sort(params);
+        String normalizedAccept = accept == null || accept.isEmpty() ? "*/*" : accept;
+        return method.toUpperCase() + " " + decode(base) + "?" + String.join("&", params) + " accept=" + normalizedAccept;
+    }
+
+    public Optional<Fixture> find(String key) {
+        Path file = fileFor(key);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> json = (Map<String, Object>) new JsonSlurper().parse(file.toFile(), "UTF-8");
+            if (!key.equals(json.get("key"))) {
+                // another exchange whose key hashes to the same file name
+                return Optional.empty();
+            }
+            @SuppressWarnings("unchecked")
+            List<List<String>> headers = (List<List<String>>) json.get("headers");
+            return Optional.of(new Fixture(((Number) json.get("status")).intValue(), headers, (String) json.get("body")));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Corrupt fixture " + file, e);
+        }
+    }
+
+    public void save(String key, int status, List<List<String>> headers, String body) {
+        List<List<String>> kept = new ArrayList<>();
+        for (List<String> header : headers) {
+            if (!SKIPPED_HEADERS.contains(header.get(0).toLowerCase())) {
+                kept.add(header);
+            }
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("key", key);
+        json.put("status", status);
+        json.put("headers", kept);
+        json.put("body", body);
+        Path file = fileFor(key);
+        try {
+            Files.createDirectories(file.getParent());
+            // write aside and move, so a concurrent reader never sees a half-written file
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            Files.write(temp, JsonOutput.prettyPrint(JsonOutput.toJson(json)).getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write fixture " + file, e);
+        }
+    }
+
+    private Path fileFor(String key) {
+        String method = key.substring(0, key.indexOf(' '));
+        String uri = key.substring(key.indexOf("://") + 3, key.indexOf('?'));
+        int slash = uri.indexOf('/');
+        String host = slash < 0 ? uri : uri.substring(0, slash);
+        String path = slash < 0 ? "" : uri.substring(slash);
+        String readable = (method + path).replaceAll("[^A-Za-z0-9]+", "_");
+        return root.resolve(host.replace(':', '_')).resolve(readable + "_" + Bytes.sha256(key.getBytes(StandardCharsets.UTF_8)).substring(0, 16) + ".json");
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    public static class Fixture {
+        private final int status;
+        private final List<List<String>> headers;
+        private final String body;
+
+        Fixture(int status, List<List<String>> headers, String body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public List<List<String>> getHeaders() {
+            return headers;
+        }
+
+        public String getBody() {
+            return body;
+        }
+    }
+}
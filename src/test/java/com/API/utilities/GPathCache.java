@@ -0,0 +1,121 @@
+package com.API.utilities;
+
+import groovy.json.JsonSlurper;
+import groovy.lang.Binding;
+import groovy.lang.GroovyShell;
+import groovy.lang.Script;
+import io.restassured.response.Response;
+import org.codehaus.groovy.runtime.InvokerHelper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GPath expressions compiled once and kept for the whole run. {@code JsonPath.get} hands its expression to a fresh
+ * {@code GroovyShell} every time, which parses and compiles a new script class per call; here each distinct expression
+ * becomes one script class, and evaluating it only creates a {@link Script} instance with its own {@link Binding}, so
+ * compiled expressions are shared safely between parallel tests.
+ * <p>
+ * Expressions are written as for {@code JsonPath}, relative to the document root ({@code find{it.name == 'x'}._id},
+ * {@code [0].members._id}). Values that vary go in as parameters instead of being spliced into the text, e.g.
+ * {@code find{it.name == house}._id} with {@code Map.of("house", "Gryffindor")}, so all variants share one compiled
+ * form.
+ */
+public class GPathCache {
+    private static final GPathCache SHARED = new GPathCache();
+    private static final String ROOT = "gpathRoot";
+
+    private final GroovyShell shell = new GroovyShell(GPathCache.class.getClassLoader());
+    private final Map<String, Class<? extends Script>> compiled = new ConcurrentHashMap<>();
+    private final AtomicLong evaluations = new AtomicLong();
+    private final AtomicLong compilations = new AtomicLong();
+    private final AtomicLong compileNanos = new AtomicLong();
+
+    public static GPathCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Parses a JSON body into the maps and lists GPath expressions navigate. Parse once, evaluate many times.
+     */
+    public static Object parse(Response response) {
+        return parse(response.asByteArray());
+    }
+
+    public static Object parse(byte[] json) {
+        return new JsonSlurper().parse(new ByteArrayInputStream(json), StandardCharsets.UTF_8.name());
+    }
+
+    public Object get(Object root, String expression) {
+        return get(root, expression, Collections.emptyMap());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object root, String expression, Map<String, ?> params) {
+        evaluations.incrementAndGet();
+        Binding binding = new Binding();
+        params.forEach(binding::setVariable);
+        binding.setVariable(ROOT, root);
+        return (T) InvokerHelper.createScript(script(expression), binding).run();
+    }
+
+    public <T> List<T> getList(Object root, String expression) {
+        return getList(root, expression, Collections.emptyMap());
+    }
+
+    public <T> List<T> getList(Object root, String expression, Map<String, ?> params) {
+        Object value = get(root, expression, params);
+        if (value != null && !(value instanceof List)) {
+            throw new IllegalArgumentException("'" + expression + "' is a " + value.getClass().getSimpleName() + ", not a list");
+        }
+        @SuppressWarnings("unchecked")
+        List<T> list = (List<T>) value;
+        return list;
+    }
+
+    public String getString(Object root, String expression, Map<String, ?> params) {
+        Object value = get(root, expression, params);
+        return value == null ? null : value.toString();
+    }
+
+    public long getEvaluations() {
+        return evaluations.get();
+    }
+
+    public long getCompilations() {
+        return compilations.get();
+    }
+
+    public long getHits() {
+        return evaluations.get() - compilations.get();
+    }
+
+    public long getCompileMillis() {
+        return compileNanos.get() / 1_000_000;
+    }
+
+    @Override
+    public String toString() {
+        return "GPathCache{expressions=" + compiled.size() + ", evaluations=" + evaluations + ", hits=" + getHits()
+                + ", compileMillis=" + getCompileMillis() + '}';
+    }
+
+    private Class<? extends Script> script(String expression) {
+        return compiled.computeIfAbsent(expression, e -> {
+            long start = System.nanoTime();
+            String source = e.isEmpty() || e.equals("$") ? ROOT : e.startsWith("[") ? ROOT + e : ROOT + "." + e;
+            Class<? extends Script> type;
+            synchronized (shell) {
+                type = shell.parse(source).getClass();
+            }
+            compilations.incrementAndGet();
+            compileNanos.addAndGet(System.nanoTime() - start);
+            return type;
+        });
+    }
+}
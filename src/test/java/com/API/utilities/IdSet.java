@@ -0,0 +1,239 @@
+package com.API.utilities;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Open-addressing set of string ids. MongoDB ObjectIds (24 lowercase hex digits, as potterapi uses) are packed into
+ * 96 bits across two primitive arrays, 16 bytes per slot. The table is kept at most half full and doubles when it
+ * gets there, so an id costs 32 to 64 bytes, against roughly 100 for a {@code String} in a {@code HashSet}. Any other
+ * id falls back to a plain {@link HashSet}. Membership is O(1), so joins between endpoints are set operations, and
+ * {@link #diff} reports differences regardless of order.
+ */
+public class IdSet {
+    private static final long OCCUPIED = 1L << 32;
+    private static final int MAX_REPORTED = 20;
+
+    private long[] high;
+    private long[] low;
+    private final Set<String> other = new HashSet<>();
+    private int packed;
+    private int duplicates;
+
+    public IdSet() {
+        this(64);
+    }
+
+    public IdSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        high = new long[capacity];
+        low = new long[capacity];
+    }
+
+    public static IdSet of(Collection<?> ids) {
+        IdSet set = new IdSet(ids.size());
+        for (Object id : ids) {
+            set.add(String.valueOf(id));
+        }
+        return set;
+    }
+
+    /**
+     * @return {@code true} if the id was not in the set yet
+     */
+    public boolean add(String id) {
+        boolean added;
+        if (isObjectId(id)) {
+            if ((packed + 1) * 2 > high.length) {
+                grow();
+            }
+            added = insert(high, low, hex(id, 0, 16), hex(id, 16, 24) | OCCUPIED);
+            if (added) {
+                packed++;
+            }
+        } else {
+            added = other.add(id);
+        }
+        if (!added) {
+            duplicates++;
+        }
+        return added;
+    }
+
+    public boolean contains(String id) {
+        if (!isObjectId(id)) {
+            return other.contains(id);
+        }
+        long hi = hex(id, 0, 16);
+        long lo = hex(id, 16, 24) | OCCUPIED;
+        int mask = high.length - 1;
+        for (int i = mix(hi, lo) & mask; low[i] != 0; i = (i + 1) & mask) {
+            if (high[i] == hi && low[i] == lo) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return packed + other.size();
+    }
+
+    /**
+     * Ids added more than once; a set holds each only once, a list compared against it would not.
+     */
+    public int duplicates() {
+        return duplicates;
+    }
+
+    public void forEach(Consumer<String> action) {
+        for (int i = 0; i < high.length; i++) {
+            if (low[i] != 0) {
+                action.accept(format(high[i], low[i]));
+            }
+        }
+        other.forEach(action);
+    }
+
+    /**
+     * What {@code actual} lacks and what it has in excess compared to {@code expected}, in one pass over each set,
+     * and how many ids were added twice on either side.
+     */
+    public static Diff diff(IdSet expected, IdSet actual) {
+        Diff diff = new Diff(expected.duplicates, actual.duplicates);
+        expected.forEach(id -> {
+            if (!actual.contains(id)) {
+                diff.missing++;
+                if (diff.missingIds.size() < MAX_REPORTED) {
+                    diff.missingIds.add(id);
+                }
+            }
+        });
+        actual.forEach(id -> {
+            if (!expected.contains(id)) {
+                diff.unexpected++;
+                if (diff.unexpectedIds.size() < MAX_REPORTED) {
+                    diff.unexpectedIds.add(id);
+                }
+            }
+        });
+        return diff;
+    }
+
+    private void grow() {
+        long[] biggerHigh = new long[high.length << 1];
+        long[] biggerLow = new long[low.length << 1];
+        for (int i = 0; i < high.length; i++) {
+            if (low[i] != 0) {
+                insert(biggerHigh, biggerLow, high[i], low[i]);
+            }
+        }
+        high = biggerHigh;
+        low = biggerLow;
+    }
+
+    private static boolean insert(long[] high, long[] low, long hi, long lo) {
+        int mask = high.length - 1;
+        for (int i = mix(hi, lo) & mask; ; i = (i + 1) & mask) {
+            if (low[i] == 0) {
+                high[i] = hi;
+                low[i] = lo;
+                return true;
+            }
+            if (high[i] == hi && low[i] == lo) {
+                return false;
+            }
+        }
+    }
+
+    private static int mix(long hi, long lo) {
+        long h = (hi ^ lo * 0xC2B2AE3D27D4EB4FL) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static boolean isObjectId(String id) {
+        if (id.length() != 24) {
+            return false;
+        }
+        for (int i = 0; i < 24; i++) {
+            char c = id.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hex(String id, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            value = value << 4 | Character.digit(id.charAt(i), 16);
+        }
+        return value;
+    }
+
+    private static String format(long hi, long lo) {
+        StringBuilder id = new StringBuilder(24);
+        for (int shift = 60; shift >= 0; shift -= 4) {
+            id.append(Character.forDigit((int) (hi >>> shift) & 0xf, 16));
+        }
+        for (int shift = 28; shift >= 0; shift -= 4) {
+            id.append(Character.forDigit((int) (lo >>> shift) & 0xf, 16));
+        }
+        return id.toString();
+    }
+
+    public static class Diff {
+        private final int expectedDuplicates;
+        private final int actualDuplicates;
+        private final List<String> missingIds = new ArrayList<>();
+        private final List<String> unexpectedIds = new ArrayList<>();
+        private long missing;
+        private long unexpected;
+
+        private Diff(int expectedDuplicates, int actualDuplicates) {
+            this.expectedDuplicates = expectedDuplicates;
+            this.actualDuplicates = actualDuplicates;
+        }
+
+        public long getMissing() {
+            return missing;
+        }
+
+        public long getUnexpected() {
+            return unexpected;
+        }
+
+        public int getExpectedDuplicates() {
+            return expectedDuplicates;
+        }
+
+        public int getActualDuplicates() {
+            return actualDuplicates;
+        }
+
+        public boolean isEmpty() {
+            return missing == 0 && unexpected == 0 && expectedDuplicates == 0 && actualDuplicates == 0;
+        }
+
+        /**
+         * @param what names the compared sets in the failure message, e.g. {@code Gryffindor members}
+         */
+        public void assertEmpty(String what) {
+            if (!isEmpty()) {
+                throw new AssertionError(what + " differ: " + this);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return missing + " missing " + missingIds + ", " + unexpected + " unexpected " + unexpectedIds
+                    + (expectedDuplicates > 0 ? ", " + expectedDuplicates + " duplicate(s) expected" : "")
+                    + (actualDuplicates > 0 ? ", " + actualDuplicates + " duplicate(s) actual" : "");
+        }
+    }
+}
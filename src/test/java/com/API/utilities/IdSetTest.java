@@ -0,0 +1,114 @@
+package com.API.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class IdSetTest {
+
+    private static List<String> objectIds(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(String.format("%016x%08x", random.nextLong(), random.nextInt()));
+        }
+        return ids;
+    }
+
+    private static Set<String> contents(IdSet set) {
+        Set<String> contents = new HashSet<>();
+        set.forEach(contents::add);
+        return contents;
+    }
+
+    @Test
+    public void fiftyThousandObjectIdsRoundTrip() {
+        List<String> ids = objectIds(50_000, 42);
+        IdSet set = IdSet.of(ids);
+
+        assertThat(set.size(), is(50_000));
+        assertThat(set.duplicates(), is(0));
+        for (String id : ids) {
+            assertThat(set.contains(id), is(true));
+        }
+        assertThat(contents(set), is(new HashSet<>(ids)));
+        for (String absent : objectIds(1_000, 7)) {
+            assertThat(set.contains(absent), is(false));
+        }
+    }
+
+    @Test
+    public void growsPastTheExpectedSize() {
+        List<String> ids = objectIds(10_000, 1);
+        IdSet set = new IdSet(0);
+        for (String id : ids) {
+            assertThat(set.add(id), is(true));
+        }
+        for (String id : ids.subList(0, 100)) {
+            assertThat(set.add(id), is(false));
+        }
+
+        assertThat(set.size(), is(10_000));
+        assertThat(set.duplicates(), is(100));
+        assertThat(contents(set), is(new HashSet<>(ids)));
+    }
+
+    @Test
+    public void otherIdsFallBackToStrings() {
+        // too short, upper case and not hex: none of them can be packed
+        List<String> others = List.of("42", "5A05E2B252F721A3CF2EA33F", "5a05e2b252f721a3cf2ea33g", "5a05e2b252f721a3cf2ea33f0", "");
+        IdSet set = IdSet.of(others);
+        set.add("5a05e2b252f721a3cf2ea33f");
+
+        assertThat(set.size(), is(6));
+        assertThat(set.contains("5a05e2b252f721a3cf2ea33f"), is(true));
+        assertThat(set.contains("5A05E2B252F721A3CF2EA33F"), is(true));
+        assertThat(set.contains("43"), is(false));
+        assertThat(set.add("42"), is(false));
+        assertThat(set.duplicates(), is(1));
+
+        Set<String> expected = new HashSet<>(others);
+        expected.add("5a05e2b252f721a3cf2ea33f");
+        assertThat(contents(set), is(expected));
+    }
+
+    @Test
+    public void diffReportsBothSides() {
+        List<String> ids = objectIds(5, 3);
+        IdSet expected = IdSet.of(List.of(ids.get(0), ids.get(1), ids.get(2), "harry"));
+        IdSet actual = IdSet.of(List.of(ids.get(1), ids.get(2), ids.get(3), "harry", "ron"));
+
+        IdSet.Diff diff = IdSet.diff(expected, actual);
+        assertThat(diff.getMissing(), is(1L));
+        assertThat(diff.getUnexpected(), is(2L));
+        assertThat(diff.isEmpty(), is(false));
+        assertThat(diff.toString(), is("1 missing [" + ids.get(0) + "], 2 unexpected [" + ids.get(3) + ", ron]"));
+
+        assertThat(IdSet.diff(expected, IdSet.of(List.of(ids.get(0), ids.get(1), ids.get(2), "harry"))).isEmpty(), is(true));
+    }
+
+    @Test
+    public void diffReportsDuplicatesOnEitherSide() {
+        List<String> ids = objectIds(2, 5);
+        IdSet once = IdSet.of(ids);
+        IdSet twice = IdSet.of(List.of(ids.get(0), ids.get(0), ids.get(1)));
+
+        IdSet.Diff expectedHasDuplicates = IdSet.diff(twice, once);
+        assertThat(expectedHasDuplicates.getExpectedDuplicates(), is(1));
+        assertThat(expectedHasDuplicates.getActualDuplicates(), is(0));
+        assertThat(expectedHasDuplicates.isEmpty(), is(false));
+        assertThat(expectedHasDuplicates.toString(), endsWith(", 1 duplicate(s) expected"));
+
+        IdSet.Diff actualHasDuplicates = IdSet.diff(once, twice);
+        assertThat(actualHasDuplicates.getExpectedDuplicates(), is(0));
+        assertThat(actualHasDuplicates.getActualDuplicates(), is(1));
+        assertThat(actualHasDuplicates.toString(), endsWith(", 1 duplicate(s) actual"));
+    }
+}
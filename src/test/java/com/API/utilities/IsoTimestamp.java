@@ -0,0 +1,100 @@
+package com.API.utilities;
+
+/**
+ * Parses ISO-8601 timestamps such as {@code 2009-04-24T19:22:29Z} or {@code 2020-06-01T10:00:00.123+02:00}
+ * straight from characters into epoch milliseconds, with no intermediate strings or {@code java.time} objects.
+ */
+public final class IsoTimestamp {
+    private IsoTimestamp() {
+    }
+
+    public static long epochMillis(CharSequence text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = text.charAt(i);
+        }
+        return epochMillis(chars, 0, chars.length);
+    }
+
+    public static long epochMillis(char[] text, int offset, int length) {
+        int end = offset + length;
+        if (length < 19 || text[offset + 4] != '-' || text[offset + 7] != '-' || text[offset + 10] != 'T'
+                || text[offset + 13] != ':' || text[offset + 16] != ':') {
+            throw malformed(text, offset, length);
+        }
+        int year = digits(text, offset, 4, offset, length);
+        int month = digits(text, offset + 5, 2, offset, length);
+        int day = digits(text, offset + 8, 2, offset, length);
+        int hour = digits(text, offset + 11, 2, offset, length);
+        int minute = digits(text, offset + 14, 2, offset, length);
+        int second = digits(text, offset + 17, 2, offset, length);
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month) || hour > 23 || minute > 59 || second > 59) {
+            throw malformed(text, offset, length);
+        }
+        int i = offset + 19;
+        int millis = 0;
+        if (i < end && text[i] == '.') {
+            int scale = 100;
+            for (i++; i < end && text[i] >= '0' && text[i] <= '9'; i++) {
+                millis += (text[i] - '0') * scale;
+                scale /= 10;
+            }
+        }
+        int offsetSeconds = 0;
+        if (i < end && (text[i] == '+' || text[i] == '-')) {
+            if (end - i != 6 || text[i + 3] != ':') {
+                throw malformed(text, offset, length);
+            }
+            offsetSeconds = (digits(text, i + 1, 2, offset, length) * 60 + digits(text, i + 4, 2, offset, length)) * 60;
+            if (text[i] == '-') {
+                offsetSeconds = -offsetSeconds;
+            }
+        } else if (i != end - 1 || text[i] != 'Z') {
+            throw malformed(text, offset, length);
+        }
+        long seconds = daysFromCivil(year, month, day) * 86_400L + hour * 3_600L + minute * 60L + second - offsetSeconds;
+        return seconds * 1000 + millis;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Days since 1970-01-01 of a proleptic Gregorian date (Howard Hinnant's algorithm).
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468;
+    }
+
+    private static int digits(char[] text, int from, int count, int offset, int length) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            char c = text[i];
+            if (c < '0' || c > '9') {
+                throw malformed(text, offset, length);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException malformed(char[] text, int offset, int length) {
+        return new IllegalArgumentException("Not an ISO-8601 timestamp: '" + new String(text, offset, length) + "'");
+    }
+}
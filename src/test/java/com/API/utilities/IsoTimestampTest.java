@@ -0,0 +1,28 @@
+package com.API.utilities;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.OffsetDateTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IsoTimestampTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2009-04-24T19:22:29Z", "2020-06-01T10:00:00.123+02:00", "1969-12-31T23:59:59-05:30",
+            "2020-02-29T00:00:00Z", "2000-02-29T12:00:00Z", "2021-04-30T23:59:59Z", "2021-12-31T23:59:59.9Z"})
+    public void agreesWithJavaTime(String timestamp) {
+        assertThat(IsoTimestamp.epochMillis(timestamp), is(OffsetDateTime.parse(timestamp).toInstant().toEpochMilli()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2020-02-31T10:00:00Z", "2021-02-29T10:00:00Z", "1900-02-29T10:00:00Z", "2021-04-31T10:00:00Z",
+            "2021-13-01T10:00:00Z", "2021-00-10T10:00:00Z", "2021-01-00T10:00:00Z", "2021-01-01T24:00:00Z",
+            "2021-01-01T10:00:00", "2021-01-01 10:00:00Z", "2021-01-01T10:00:00+0200"})
+    public void rejectsInvalidTimestamps(String timestamp) {
+        assertThrows(IllegalArgumentException.class, () -> IsoTimestamp.epochMillis(timestamp));
+    }
+}
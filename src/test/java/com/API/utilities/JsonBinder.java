@@ -0,0 +1,175 @@
+package com.API.utilities;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Binds JSON objects to a POJO without reflection. The field table is assembled once from explicit setters
+ * and the binder is then reused for every response; unknown fields are skipped. A value of the wrong JSON
+ * type fails the binding, so a bound object is also type-checked.
+ */
+public class JsonBinder<T> {
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final Supplier<T> factory;
+    private final Map<String, FieldReader<T>> fields;
+
+    private JsonBinder(Supplier<T> factory, Map<String, FieldReader<T>> fields) {
+        this.factory = factory;
+        this.fields = fields;
+    }
+
+    public static <T> Builder<T> builder(Supplier<T> factory) {
+        return new Builder<>(factory);
+    }
+
+    public List<T> readList(Response response) {
+        return readList(response.asByteArray());
+    }
+
+    public List<T> readList(byte[] json) {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            expect(parser, parser.nextToken(), JsonToken.START_ARRAY, "$");
+            List<T> result = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                expect(parser, token, JsonToken.START_OBJECT, "$[" + result.size() + "]");
+                result.add(readObject(parser));
+            }
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed JSON", e);
+        }
+    }
+
+    /**
+     * Reads a document that is a single JSON string, e.g. {@code "Gryffindor"}.
+     */
+    public static String readString(byte[] json) {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            parser.nextToken();
+            return readString(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed JSON", e);
+        }
+    }
+
+    /**
+     * Reads the object the parser is positioned on ({@code START_OBJECT}) up to and including its {@code END_OBJECT}.
+     */
+    public T readObject(JsonParser parser) throws IOException {
+        T target = factory.get();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            FieldReader<T> reader = fields.get(parser.getCurrentName());
+            parser.nextToken();
+            if (reader == null) {
+                parser.skipChildren();
+            } else {
+                reader.read(parser, target);
+            }
+        }
+        return target;
+    }
+
+    public static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, token, JsonToken.VALUE_STRING, parser.getCurrentName());
+        return parser.getText();
+    }
+
+    public static boolean readBoolean(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_FALSE) {
+            throw mismatch(parser, token, "a boolean", parser.getCurrentName());
+        }
+        return token == JsonToken.VALUE_TRUE;
+    }
+
+    public static long readLong(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.VALUE_NUMBER_INT, parser.getCurrentName());
+        return parser.getLongValue();
+    }
+
+    public static List<String> readStringList(JsonParser parser) throws IOException {
+        String field = parser.getCurrentName();
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY, field);
+        List<String> values = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(parser, token, JsonToken.VALUE_STRING, field + "[" + values.size() + "]");
+            values.add(parser.getText());
+        }
+        return values;
+    }
+
+    /**
+     * Fails unless the parser is positioned on {@code expected}; a truncated document ends in a {@code null} token
+     * and fails here too, instead of leaving a reader looping on it.
+     */
+    public static void expect(JsonParser parser, JsonToken expected, String field) {
+        expect(parser, parser.currentToken(), expected, field);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected, String field) {
+        if (actual != expected) {
+            throw mismatch(parser, actual, expected.name(), field);
+        }
+    }
+
+    private static IllegalStateException mismatch(JsonParser parser, JsonToken actual, String expected, String field) {
+        return new IllegalStateException("Field " + field + " expected " + expected + " but was " + actual
+                + " at " + parser.getCurrentLocation());
+    }
+
+    public interface FieldReader<T> {
+        void read(JsonParser parser, T target) throws IOException;
+    }
+
+    public static class Builder<T> {
+        private final Supplier<T> factory;
+        private final Map<String, FieldReader<T>> fields = new HashMap<>();
+
+        private Builder(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        public Builder<T> string(String name, BiConsumer<T, String> setter) {
+            return field(name, (parser, target) -> setter.accept(target, readString(parser)));
+        }
+
+        public Builder<T> bool(String name, BiConsumer<T, Boolean> setter) {
+            return field(name, (parser, target) -> setter.accept(target, readBoolean(parser)));
+        }
+
+        public Builder<T> integer(String name, BiConsumer<T, Long> setter) {
+            return field(name, (parser, target) -> setter.accept(target, readLong(parser)));
+        }
+
+        public Builder<T> stringList(String name, BiConsumer<T, List<String>> setter) {
+            return field(name, (parser, target) -> setter.accept(target, readStringList(parser)));
+        }
+
+        public Builder<T> field(String name, FieldReader<T> reader) {
+            fields.put(name, reader);
+            return this;
+        }
+
+        public JsonBinder<T> build() {
+            return new JsonBinder<>(factory, Collections.unmodifiableMap(new HashMap<>(fields)));
+        }
+    }
+}
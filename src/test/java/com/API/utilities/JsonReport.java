@@ -0,0 +1,49 @@
+package com.API.utilities;
+
+import groovy.json.JsonOutput;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Writes the run's JSON reports: pretty-printed, parent directories created. {@link #atExit} registers a report that
+ * is written when the JVM exits, to the file named by a system property.
+ */
+public final class JsonReport {
+    private JsonReport() {
+    }
+
+    public static void write(Path report, Map<String, ?> summary) {
+        try {
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            Files.write(report, JsonOutput.prettyPrint(JsonOutput.toJson(summary)).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write report " + report, e);
+        }
+    }
+
+    /**
+     * Writes the summary at JVM exit to the file named by {@code property}, or to {@code defaultFile}. An empty
+     * summary writes nothing, so runs that never used the component leave no stale file behind.
+     */
+    public static void atExit(String property, String defaultFile, Supplier<? extends Map<String, ?>> summary) {
+        Path report = Paths.get(System.getProperty(property, defaultFile));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            Map<String, ?> values = summary.get();
+            if (values.isEmpty()) {
+                return;
+            }
+            try {
+                write(report, values);
+            } catch (UncheckedIOException e) {
+                System.err.println(e.getMessage() + ": " + e.getCause());
+            }
+        }, "report " + report.getFileName()));
+    }
+}
@@ -0,0 +1,373 @@
+package com.API.utilities;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import groovy.json.JsonSlurper;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * JSON Schema contracts from {@code src/test/resources/schemas}, compiled once per JVM and validated in one pass
+ * over the parser tokens, without building a document tree. A draft-07 subset is supported: {@code type} (one or a
+ * list), {@code properties}, {@code required}, {@code additionalProperties: false}, {@code items}, {@code enum},
+ * {@code minLength}, {@code pattern}, {@code minimum}, {@code format: date-time} and {@code $ref} to another schema
+ * file. Any other keyword fails the compilation, so a schema never silently checks less than it says.
+ * <pre>
+ * JsonSchema.load("characters.json").validate(response).assertValid();
+ * </pre>
+ */
+public final class JsonSchema {
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final int MAX_REPORTED = 20;
+    private static final Map<String, JsonSchema> COMPILED = new HashMap<>();
+    private static final Set<String> COMPILING = new HashSet<>();
+    private static final Set<String> ANNOTATIONS = Set.of("$schema", "$id", "title", "description");
+
+    private static final int OBJECT = 1;
+    private static final int ARRAY = 2;
+    private static final int STRING = 4;
+    private static final int INTEGER = 8;
+    private static final int NUMBER = 16;
+    private static final int BOOLEAN = 32;
+    private static final int NULL = 64;
+    private static final Map<String, Integer> TYPES = Map.of("object", OBJECT, "array", ARRAY, "string", STRING,
+            "integer", INTEGER, "number", NUMBER, "boolean", BOOLEAN, "null", NULL);
+
+    private final String name;
+    private final Node root;
+
+    private JsonSchema(String name, Node root) {
+        this.name = name;
+        this.root = root;
+    }
+
+    /**
+     * @param resource file name under {@code schemas/} on the test classpath, e.g. {@code characters.json}
+     */
+    public static synchronized JsonSchema load(String resource) {
+        JsonSchema schema = COMPILED.get(resource);
+        if (schema == null) {
+            if (!COMPILING.add(resource)) {
+                throw new IllegalArgumentException("Schema " + resource + " refers to itself");
+            }
+            try {
+                schema = new JsonSchema(resource, compile(resource, read(resource)));
+            } finally {
+                COMPILING.remove(resource);
+            }
+            COMPILED.put(resource, schema);
+        }
+        return schema;
+    }
+
+    public Result validate(Response response) {
+        return validate(response.asByteArray());
+    }
+
+    public Result validate(byte[] json) {
+        Result result = new Result(name);
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            root.validate(parser, parser.nextToken(), new StringBuilder("$"), result);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed JSON", e);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonSchema{" + name + '}';
+    }
+
+    /**
+     * Compiles a schema given inline rather than from {@code schemas/}; a {@code $ref} still names a schema file.
+     */
+    static JsonSchema parse(String name, String definition) {
+        return new JsonSchema(name, compile(name, new JsonSlurper().parseText(definition)));
+    }
+
+    private static Object read(String resource) {
+        InputStream in = JsonSchema.class.getResourceAsStream("/schemas/" + resource);
+        if (in == null) {
+            throw new IllegalArgumentException("No schema schemas/" + resource + " on the test classpath");
+        }
+        try (InputStream schema = in) {
+            return new JsonSlurper().parse(schema, StandardCharsets.UTF_8.name());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read schema " + resource, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Node compile(String resource, Object definition) {
+        if (!(definition instanceof Map)) {
+            throw new IllegalArgumentException(resource + ": a schema must be an object but was " + definition);
+        }
+        Map<String, Object> keywords = (Map<String, Object>) definition;
+        if (keywords.containsKey("$ref")) {
+            return load((String) keywords.get("$ref")).root;
+        }
+        Node node = new Node();
+        for (Map.Entry<String, Object> keyword : keywords.entrySet()) {
+            Object value = keyword.getValue();
+            switch (keyword.getKey()) {
+                case "type":
+                    for (Object type : value instanceof List ? (List<Object>) value : List.of(value)) {
+                        Integer bit = TYPES.get(type);
+                        if (bit == null) {
+                            throw new IllegalArgumentException(resource + ": unknown type " + type);
+                        }
+                        node.types |= bit;
+                    }
+                    break;
+                case "properties":
+                    ((Map<String, Object>) value).forEach((field, schema) ->
+                            node.properties.put(field, compile(resource, schema)));
+                    break;
+                case "required":
+                    node.required = ((List<String>) value).toArray(new String[0]);
+                    break;
+                case "additionalProperties":
+                    if (!(value instanceof Boolean)) {
+                        throw new IllegalArgumentException(resource + ": only additionalProperties true or false is supported");
+                    }
+                    node.additionalProperties = (Boolean) value;
+                    break;
+                case "items":
+                    node.items = compile(resource, value);
+                    break;
+                case "enum":
+                    node.allowed = new LinkedHashSet<>();
+                    for (Object allowed : (List<Object>) value) {
+                        node.allowed.add(allowed instanceof String ? "\"" + allowed : String.valueOf(allowed));
+                    }
+                    break;
+                case "minLength":
+                    node.minLength = ((Number) value).intValue();
+                    break;
+                case "pattern":
+                    node.pattern = Pattern.compile((String) value);
+                    break;
+                case "minimum":
+                    node.minimum = ((Number) value).doubleValue();
+                    break;
+                case "format":
+                    if (!"date-time".equals(value)) {
+                        throw new IllegalArgumentException(resource + ": unsupported format " + value);
+                    }
+                    node.dateTime = true;
+                    break;
+                default:
+                    if (!ANNOTATIONS.contains(keyword.getKey())) {
+                        throw new IllegalArgumentException(resource + ": unsupported keyword " + keyword.getKey());
+                    }
+            }
+        }
+        return node;
+    }
+
+    private static int typeOf(JsonToken token) {
+        switch (token) {
+            case START_OBJECT:
+                return OBJECT;
+            case START_ARRAY:
+                return ARRAY;
+            case VALUE_STRING:
+                return STRING;
+            case VALUE_NUMBER_INT:
+                return INTEGER;
+            case VALUE_NUMBER_FLOAT:
+                return NUMBER;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return BOOLEAN;
+            case VALUE_NULL:
+                return NULL;
+            default:
+                throw new IllegalStateException("Unexpected " + token);
+        }
+    }
+
+    private static String typeNames(int types) {
+        List<String> names = new ArrayList<>();
+        TYPES.forEach((typeName, bit) -> {
+            if ((types & bit) != 0) {
+                names.add(typeName);
+            }
+        });
+        Collections.sort(names);
+        return String.join(" or ", names);
+    }
+
+    private static class Node {
+        private int types;
+        private final Map<String, Node> properties = new HashMap<>();
+        private String[] required = new String[0];
+        private boolean additionalProperties = true;
+        private Node items;
+        private Set<String> allowed;
+        private int minLength = -1;
+        private Pattern pattern;
+        private double minimum = Double.NaN;
+        private boolean dateTime;
+
+        void validate(JsonParser parser, JsonToken token, StringBuilder path, Result result) throws IOException {
+            result.values++;
+            int type = typeOf(token);
+            if (type == NUMBER && (types & INTEGER) != 0 && isIntegral(parser)) {
+                // draft-07 counts 1.0 as an integer
+                type = INTEGER;
+            }
+            if (types != 0 && (types & type) == 0 && !(type == INTEGER && (types & NUMBER) != 0)) {
+                result.violation(path, "is " + typeNames(type) + ", expected " + typeNames(types));
+                parser.skipChildren();
+                return;
+            }
+            if (allowed != null) {
+                String key = token == JsonToken.VALUE_STRING ? "\"" + parser.getText() : parser.getText();
+                if (!allowed.contains(key)) {
+                    result.violation(path, (type == STRING ? "'" + parser.getText() + "'" : parser.getText())
+                            + " is not one of " + allowed.toString().replace("\"", ""));
+                }
+            }
+            switch (type) {
+                case OBJECT:
+                    validateObject(parser, path, result);
+                    break;
+                case ARRAY:
+                    validateArray(parser, path, result);
+                    break;
+                case STRING:
+                    validateString(parser, path, result);
+                    break;
+                case INTEGER:
+                case NUMBER:
+                    if (!Double.isNaN(minimum) && parser.getDoubleValue() < minimum) {
+                        result.violation(path, parser.getText() + " is below the minimum " + minimum);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private static boolean isIntegral(JsonParser parser) throws IOException {
+            BigDecimal value = parser.getDecimalValue();
+            return value.signum() == 0 || value.stripTrailingZeros().scale() <= 0;
+        }
+
+        private void validateObject(JsonParser parser, StringBuilder path, Result result) throws IOException {
+            boolean[] seen = new boolean[required.length];
+            int length = path.length();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                for (int i = 0; i < required.length; i++) {
+                    if (required[i].equals(field)) {
+                        seen[i] = true;
+                    }
+                }
+                Node property = properties.get(field);
+                if (property != null) {
+                    property.validate(parser, value, path.append('.').append(field), result);
+                    path.setLength(length);
+                } else {
+                    if (!additionalProperties) {
+                        result.violation(path.append('.').append(field), "is not allowed");
+                        path.setLength(length);
+                    }
+                    parser.skipChildren();
+                }
+            }
+            for (int i = 0; i < required.length; i++) {
+                if (!seen[i]) {
+                    result.violation(path.append('.').append(required[i]), "is missing");
+                    path.setLength(length);
+                }
+            }
+        }
+
+        private void validateArray(JsonParser parser, StringBuilder path, Result result) throws IOException {
+            int length = path.length();
+            int index = 0;
+            JsonToken element;
+            while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (items == null) {
+                    parser.skipChildren();
+                } else {
+                    items.validate(parser, element, path.append('[').append(index).append(']'), result);
+                    path.setLength(length);
+                }
+                index++;
+            }
+        }
+
+        private void validateString(JsonParser parser, StringBuilder path, Result result) throws IOException {
+            if (minLength >= 0 && parser.getTextLength() < minLength) {
+                result.violation(path, "'" + parser.getText() + "' is shorter than " + minLength);
+            }
+            if (pattern != null && !pattern.matcher(parser.getText()).find()) {
+                result.violation(path, "'" + parser.getText() + "' does not match " + pattern);
+            }
+            if (dateTime) {
+                try {
+                    IsoTimestamp.epochMillis(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                } catch (IllegalArgumentException e) {
+                    result.violation(path, e.getMessage());
+                }
+            }
+        }
+    }
+
+    public static class Result {
+        private final String schema;
+        private final List<String> violations = new ArrayList<>();
+        private long violationCount;
+        private long values;
+
+        private Result(String schema) {
+            this.schema = schema;
+        }
+
+        private void violation(CharSequence path, String message) {
+            if (violationCount++ < MAX_REPORTED) {
+                violations.add(path + " " + message);
+            }
+        }
+
+        public long getValues() {
+            return values;
+        }
+
+        public List<String> violations() {
+            return Collections.unmodifiableList(violations);
+        }
+
+        public void assertValid() {
+            if (violationCount > 0) {
+                throw new AssertionError(violationCount + " violation(s) of " + schema + ", first "
+                        + violations.size() + ":\n  " + String.join("\n  ", violations));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "JsonSchema.Result{schema=" + schema + ", values=" + values + ", violations=" + violationCount + '}';
+        }
+    }
+}
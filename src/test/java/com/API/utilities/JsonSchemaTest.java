@@ -0,0 +1,134 @@
+package com.API.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonSchemaTest {
+
+    private static List<String> violations(String schema, String json) {
+        return JsonSchema.parse("test", schema).validate(json.getBytes(StandardCharsets.UTF_8)).violations();
+    }
+
+    @Test
+    public void type() {
+        assertThat(violations("{\"type\": \"string\"}", "\"a\""), empty());
+        assertThat(violations("{\"type\": \"string\"}", "1"), contains("$ is integer, expected string"));
+        assertThat(violations("{\"type\": [\"string\", \"null\"]}", "null"), empty());
+        assertThat(violations("{\"type\": [\"string\", \"null\"]}", "true"), contains("$ is boolean, expected null or string"));
+        assertThat(violations("{\"type\": \"object\"}", "[1, {}]"), contains("$ is array, expected object"));
+    }
+
+    @Test
+    public void integerAcceptsNumbersWithoutAFraction() {
+        assertThat(violations("{\"type\": \"integer\"}", "1"), empty());
+        assertThat(violations("{\"type\": \"integer\"}", "1.0"), empty());
+        assertThat(violations("{\"type\": \"integer\"}", "-0.0"), empty());
+        assertThat(violations("{\"type\": \"integer\"}", "1e2"), empty());
+        assertThat(violations("{\"type\": \"integer\"}", "1.5"), contains("$ is number, expected integer"));
+        assertThat(violations("{\"type\": \"number\"}", "1"), empty());
+        assertThat(violations("{\"type\": \"number\"}", "1.5"), empty());
+    }
+
+    @Test
+    public void propertiesAndRequired() {
+        String schema = "{\"type\": \"object\", \"required\": [\"id\", \"name\"], "
+                + "\"properties\": {\"id\": {\"type\": \"integer\"}, \"name\": {\"type\": \"string\"}}}";
+        assertThat(violations(schema, "{\"id\": 1, \"name\": \"a\", \"extra\": [1]}"), empty());
+        assertThat(violations(schema, "{\"id\": \"1\"}"), contains("$.id is string, expected integer", "$.name is missing"));
+    }
+
+    @Test
+    public void additionalProperties() {
+        String schema = "{\"type\": \"object\", \"additionalProperties\": false, \"properties\": {\"id\": {}}}";
+        assertThat(violations(schema, "{\"id\": 1}"), empty());
+        assertThat(violations(schema, "{\"id\": 1, \"extra\": {\"id\": 2}}"), contains("$.extra is not allowed"));
+        assertThrows(IllegalArgumentException.class,
+                () -> JsonSchema.parse("test", "{\"additionalProperties\": {\"type\": \"string\"}}"));
+    }
+
+    @Test
+    public void items() {
+        String schema = "{\"type\": \"array\", \"items\": {\"type\": \"object\", \"required\": [\"id\"]}}";
+        assertThat(violations(schema, "[{\"id\": 1}, {\"id\": 2}]"), empty());
+        assertThat(violations(schema, "[{\"id\": 1}, {}, 3]"), contains("$[1].id is missing", "$[2] is integer, expected object"));
+    }
+
+    @Test
+    public void enumeration() {
+        assertThat(violations("{\"enum\": [\"a\", \"b\"]}", "\"b\""), empty());
+        assertThat(violations("{\"enum\": [\"a\", \"b\"]}", "\"c\""), contains("$ 'c' is not one of [a, b]"));
+        assertThat(violations("{\"enum\": [1, 2]}", "2"), empty());
+        // a string "1" is not the number 1
+        assertThat(violations("{\"enum\": [1, 2]}", "\"1\""), hasSize(1));
+    }
+
+    @Test
+    public void minLength() {
+        assertThat(violations("{\"minLength\": 2}", "\"ab\""), empty());
+        assertThat(violations("{\"minLength\": 2}", "\"a\""), contains("$ 'a' is shorter than 2"));
+    }
+
+    @Test
+    public void pattern() {
+        assertThat(violations("{\"pattern\": \"^[0-9a-f]{24}$\"}", "\"5a05e2b252f721a3cf2ea33f\""), empty());
+        assertThat(violations("{\"pattern\": \"^[0-9a-f]{24}$\"}", "\"5a05\""), hasSize(1));
+    }
+
+    @Test
+    public void minimum() {
+        assertThat(violations("{\"minimum\": 0}", "0"), empty());
+        assertThat(violations("{\"minimum\": 0}", "0.5"), empty());
+        assertThat(violations("{\"minimum\": 0}", "-1"), contains("$ -1 is below the minimum 0.0"));
+    }
+
+    @Test
+    public void dateTimeFormat() {
+        assertThat(violations("{\"format\": \"date-time\"}", "\"2020-02-29T10:00:00Z\""), empty());
+        assertThat(violations("{\"format\": \"date-time\"}", "\"2020-02-31T10:00:00Z\""),
+                contains("$ Not an ISO-8601 timestamp: '2020-02-31T10:00:00Z'"));
+        assertThrows(IllegalArgumentException.class, () -> JsonSchema.parse("test", "{\"format\": \"email\"}"));
+    }
+
+    @Test
+    public void refToAnotherSchemaFile() {
+        JsonSchema.Result result = JsonSchema.parse("test", "{\"type\": \"array\", \"items\": {\"$ref\": \"house.json\"}}").
+                validate("[{\"name\": 1}]".getBytes(StandardCharsets.UTF_8));
+        assertThat(result.violations(), hasItem("$[0].name is integer, expected string"));
+    }
+
+    @Test
+    public void everyCharacterHasADumbledoresArmyFlag() {
+        JsonSchema characters = JsonSchema.load("characters.json");
+        String flagged = "{\"_id\": \"5a0fa4daae5bc100213c232e\", \"name\": \"Hannah Abbott\", \"dumbledoresArmy\": true}";
+        String unflagged = "{\"_id\": \"5a0fa54aae5bc100213c232f\", \"name\": \"Bathsheda Babbling\"}";
+
+        assertThat(characters.validate(("[" + flagged + "]").getBytes(StandardCharsets.UTF_8)).violations(), empty());
+        assertThat(characters.validate(("[" + flagged + ", " + unflagged + "]").getBytes(StandardCharsets.UTF_8)).violations(),
+                contains("$[1].dumbledoresArmy is missing"));
+    }
+
+    @Test
+    public void unsupportedKeywordsFailTheCompilation() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> JsonSchema.parse("test", "{\"type\": \"object\", \"maxProperties\": 2}"));
+        assertThat(e.getMessage(), is("test: unsupported keyword maxProperties"));
+    }
+
+    @Test
+    public void refCyclesAreRejected() {
+        IllegalArgumentException self = assertThrows(IllegalArgumentException.class, () -> JsonSchema.load("cycles/self.json"));
+        assertThat(self.getMessage(), is("Schema cycles/self.json refers to itself"));
+
+        IllegalArgumentException indirect = assertThrows(IllegalArgumentException.class, () -> JsonSchema.load("cycles/parent.json"));
+        assertThat(indirect.getMessage(), is("Schema cycles/parent.json refers to itself"));
+        // the failed compilation leaves nothing half-built behind
+        assertThrows(IllegalArgumentException.class, () -> JsonSchema.load("cycles/child.json"));
+        assertThrows(IllegalArgumentException.class, () -> JsonSchema.load("cycles/parent.json"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.API.utilities;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every exchange that reaches the network and records it per endpoint template, e.g.
+ * {@code GET /houses/{id}}, so all ids share one histogram. Cache hits are not timed. At JVM exit a JSON report with
+ * count, mean, p50/p95/p99 and max per endpoint goes to {@code api.latency.report} (default
+ * {@code target/latency-report.json}). Tests declare budgets with {@link #assertWithinBudget}.
+ */
+public class LatencyRecorder implements OrderedFilter {
+    private static final LatencyRecorder INSTANCE = new LatencyRecorder();
+
+    private final Map<String, LatencyHistogram> endpoints = new ConcurrentHashMap<>();
+
+    static {
+        JsonReport.atExit("api.latency.report", "target/latency-report.json", INSTANCE::summary);
+    }
+
+    private LatencyRecorder() {
+    }
+
+    public static LatencyRecorder instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        histogram(requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath()).record((System.nanoTime() - start) / 1000);
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrder.LATENCY;
+    }
+
+    public LatencyHistogram histogram(String endpoint) {
+        return endpoints.computeIfAbsent(endpoint, e -> new LatencyHistogram());
+    }
+
+    /**
+     * The endpoint's histogram, or {@code null} when it was never called.
+     */
+    LatencyHistogram find(String endpoint) {
+        return endpoints.get(endpoint);
+    }
+
+    /**
+     * Fails when the given percentile of an endpoint is above the budget. Endpoints that were never called pass.
+     *
+     * @param endpoint   method and path template, e.g. {@code GET /orgs/{org}}
+     * @param percentile between 0 and 100
+     */
+    public void assertWithinBudget(String endpoint, double percentile, Duration budget) {
+        LatencyHistogram histogram = endpoints.get(endpoint);
+        if (histogram == null || histogram.count() == 0) {
+            return;
+        }
+        long actual = histogram.percentileMicros(percentile);
+        if (actual > budget.toNanos() / 1000) {
+            throw new AssertionError(String.format("%s p%s is %.1f ms over %d calls, budget is %d ms",
+                    endpoint, percentile, actual / 1000.0, histogram.count(), budget.toMillis()));
+        }
+    }
+
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new TreeMap<>();
+        endpoints.forEach((endpoint, histogram) -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", histogram.count());
+            stats.put("mean_ms", round(histogram.meanMicros()));
+            stats.put("p50_ms", round(histogram.percentileMicros(50)));
+            stats.put("p95_ms", round(histogram.percentileMicros(95)));
+            stats.put("p99_ms", round(histogram.percentileMicros(99)));
+            stats.put("max_ms", round(histogram.maxMicros()));
+            summary.put(endpoint, stats);
+        });
+        return summary;
+    }
+
+    private static double round(double micros) {
+        return Math.round(micros / 10.0) / 100.0;
+    }
+}
@@ -0,0 +1,100 @@
+package com.API.utilities;
+
+import java.time.Duration;
+
+/**
+ * How a {@link LoadRunner} drives its scenarios. The open model starts scenarios at a fixed arrival rate no matter
+ * how long they take; the closed model keeps a fixed number of users looping. Both ramp up linearly.
+ * {@link #fromSystemProperties()} reads {@code load.rate} (open model when set), {@code load.concurrency} (default 10),
+ * {@code load.durationSeconds} (30), {@code load.rampUpSeconds} (5) and {@code load.thinkTimeMillis} (0).
+ */
+public class LoadProfile {
+    private final double ratePerSecond;
+    private final int concurrency;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final Duration thinkTime;
+    private final int maxInFlight;
+
+    private LoadProfile(double ratePerSecond, int concurrency, Duration rampUp, Duration duration, Duration thinkTime, int maxInFlight) {
+        this.ratePerSecond = ratePerSecond;
+        this.concurrency = concurrency;
+        this.rampUp = rampUp;
+        this.duration = duration;
+        this.thinkTime = thinkTime;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public static LoadProfile openModel(double ratePerSecond) {
+        return new LoadProfile(ratePerSecond, 0, Duration.ZERO, Duration.ofSeconds(30), Duration.ZERO, 10_000);
+    }
+
+    public static LoadProfile closedModel(int concurrency) {
+        return new LoadProfile(0, concurrency, Duration.ZERO, Duration.ofSeconds(30), Duration.ZERO, concurrency);
+    }
+
+    public static LoadProfile fromSystemProperties() {
+        String rate = System.getProperty("load.rate");
+        LoadProfile profile = rate != null && !rate.isEmpty()
+                ? openModel(Double.parseDouble(rate))
+                : closedModel(Integer.getInteger("load.concurrency", 10));
+        return profile.
+                rampUp(Duration.ofSeconds(Long.getLong("load.rampUpSeconds", 5L))).
+                duration(Duration.ofSeconds(Long.getLong("load.durationSeconds", 30L))).
+                thinkTime(Duration.ofMillis(Long.getLong("load.thinkTimeMillis", 0L)));
+    }
+
+    public LoadProfile rampUp(Duration rampUp) {
+        return new LoadProfile(ratePerSecond, concurrency, rampUp, duration, thinkTime, maxInFlight);
+    }
+
+    public LoadProfile duration(Duration duration) {
+        return new LoadProfile(ratePerSecond, concurrency, rampUp, duration, thinkTime, maxInFlight);
+    }
+
+    public LoadProfile thinkTime(Duration thinkTime) {
+        return new LoadProfile(ratePerSecond, concurrency, rampUp, duration, thinkTime, maxInFlight);
+    }
+
+    /**
+     * Caps concurrently running scenarios in the open model; arrivals beyond it are dropped and count as errors.
+     */
+    public LoadProfile maxInFlight(int maxInFlight) {
+        return new LoadProfile(ratePerSecond, concurrency, rampUp, duration, thinkTime, maxInFlight);
+    }
+
+    public boolean isOpenModel() {
+        return ratePerSecond > 0;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public Duration getRampUp() {
+        return rampUp;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Duration getThinkTime() {
+        return thinkTime;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    @Override
+    public String toString() {
+        return (isOpenModel() ? "open model " + ratePerSecond + "/s" : "closed model " + concurrency + " users")
+                + ", ramp-up " + rampUp.getSeconds() + "s, duration " + duration.getSeconds() + "s, think time "
+                + thinkTime.toMillis() + "ms";
+    }
+}
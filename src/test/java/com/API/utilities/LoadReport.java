@@ -0,0 +1,158 @@
+package com.API.utilities;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outcome of a {@link LoadRunner} run: throughput, error rate and latency percentiles per scenario and overall.
+ * The first few failure messages of each scenario are kept so a failing soak test says what went wrong.
+ * Open-model arrivals dropped because {@code maxInFlight} runs were already going count as errors: an overloaded run
+ * must not pass just because the runner declined to start the work.
+ */
+public class LoadReport {
+    private static final int MAX_FAILURES_KEPT = 5;
+
+    private final LoadProfile profile;
+    private final Map<String, Stats> scenarios = new LinkedHashMap<>();
+    private final Stats overall = new Stats();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile Duration elapsed = Duration.ZERO;
+
+    LoadReport(LoadProfile profile, List<LoadScenario> scenarios) {
+        this.profile = profile;
+        scenarios.forEach(scenario -> this.scenarios.putIfAbsent(scenario.getName(), new Stats()));
+    }
+
+    void record(String scenario, long micros, Throwable failure) {
+        scenarios.get(scenario).record(micros, failure);
+        overall.record(micros, failure);
+    }
+
+    void dropped() {
+        dropped.incrementAndGet();
+    }
+
+    void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    public long requests() {
+        return overall.latency.count();
+    }
+
+    public long errors() {
+        return overall.errors.get();
+    }
+
+    public long droppedArrivals() {
+        return dropped.get();
+    }
+
+    /**
+     * Scenario runs completed plus arrivals dropped.
+     */
+    public long attempts() {
+        return requests() + droppedArrivals();
+    }
+
+    /**
+     * Failed runs and dropped arrivals over {@link #attempts()}.
+     */
+    public double errorRate() {
+        return attempts() == 0 ? 0 : (double) (errors() + droppedArrivals()) / attempts();
+    }
+
+    public double throughputPerSecond() {
+        return elapsed.isZero() ? 0 : requests() / (elapsed.toNanos() / 1e9);
+    }
+
+    public LatencyHistogram latency() {
+        return overall.latency;
+    }
+
+    public LatencyHistogram latency(String scenario) {
+        return scenarios.get(scenario).latency;
+    }
+
+    public void assertErrorRateAtMost(double maxErrorRate) {
+        if (requests() == 0) {
+            throw new AssertionError("Load run completed no scenarios" + (droppedArrivals() > 0
+                    ? ", all " + droppedArrivals() + " arrivals were dropped" : ""));
+        }
+        if (errorRate() > maxErrorRate) {
+            StringBuilder message = new StringBuilder(String.format(
+                    "Error rate %.2f%% (%d failed and %d dropped of %d) exceeds %.2f%%",
+                    errorRate() * 100, errors(), droppedArrivals(), attempts(), maxErrorRate * 100));
+            scenarios.forEach((name, stats) -> stats.failures.forEach(failure ->
+                    message.append(System.lineSeparator()).append("  ").append(name).append(": ").append(failure)));
+            throw new AssertionError(message.toString());
+        }
+    }
+
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("profile", profile.toString());
+        summary.put("threads", Threads.virtualThreadsAvailable() ? "virtual" : "platform");
+        summary.put("elapsed_s", Math.round(elapsed.toMillis() / 10.0) / 100.0);
+        summary.put("throughput_per_s", Math.round(throughputPerSecond() * 100) / 100.0);
+        summary.put("dropped", dropped.get());
+        summary.put("error_rate", Math.round(errorRate() * 10_000) / 10_000.0);
+        summary.put("overall", overall.summary());
+        Map<String, Object> perScenario = new LinkedHashMap<>();
+        scenarios.forEach((name, stats) -> perScenario.put(name, stats.summary()));
+        summary.put("scenarios", perScenario);
+        return summary;
+    }
+
+    public void writeTo(Path report) {
+        JsonReport.write(report, summary());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d requests in %.1fs, %.1f/s, %.2f%% errors, p50 %.1f ms, p95 %.1f ms, p99 %.1f ms, %d dropped",
+                requests(), elapsed.toMillis() / 1000.0, throughputPerSecond(), errorRate() * 100,
+                latency().percentileMicros(50) / 1000.0, latency().percentileMicros(95) / 1000.0,
+                latency().percentileMicros(99) / 1000.0, dropped.get());
+    }
+
+    private static class Stats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final AtomicLong errors = new AtomicLong();
+        final Queue<String> failures = new ConcurrentLinkedQueue<>();
+
+        void record(long micros, Throwable failure) {
+            latency.record(micros);
+            if (failure != null) {
+                errors.incrementAndGet();
+                if (failures.size() < MAX_FAILURES_KEPT) {
+                    failures.add(String.valueOf(failure).split("\\R", 2)[0]);
+                }
+            }
+        }
+
+        Map<String, Object> summary() {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", latency.count());
+            stats.put("errors", errors.get());
+            stats.put("p50_ms", round(latency.percentileMicros(50)));
+            stats.put("p95_ms", round(latency.percentileMicros(95)));
+            stats.put("p99_ms", round(latency.percentileMicros(99)));
+            stats.put("max_ms", round(latency.maxMicros()));
+            if (!failures.isEmpty()) {
+                stats.put("failures", List.copyOf(failures));
+            }
+            return stats;
+        }
+
+        private static double round(double micros) {
+            return Math.round(micros / 10.0) / 100.0;
+        }
+    }
+}
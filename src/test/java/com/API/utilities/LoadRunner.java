@@ -0,0 +1,141 @@
+package com.API.utilities;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives existing test scenarios as load, one thread per scenario run (virtual when the JVM has them, see
+ * {@link Threads#newPerTaskExecutor}). Scenarios are picked round-robin.
+ * <p>
+ * In the open model an arrival is started on schedule even when earlier ones are still running, and its latency is
+ * measured from the scheduled start, so a slow server shows up in the percentiles instead of silently lowering the
+ * rate. In the closed model each user runs a scenario, waits the think time and repeats until the duration is up.
+ */
+public class LoadRunner {
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadProfile profile;
+    private final List<LoadScenario> scenarios;
+
+    public LoadRunner(LoadProfile profile, LoadScenario... scenarios) {
+        if (scenarios.length == 0) {
+            throw new IllegalArgumentException("At least one scenario is required");
+        }
+        this.profile = profile;
+        this.scenarios = Arrays.asList(scenarios);
+    }
+
+    public LoadReport run() {
+        LoadReport report = new LoadReport(profile, scenarios);
+        ExecutorService executor = Threads.newPerTaskExecutor("load");
+        long start = System.nanoTime();
+        try {
+            if (profile.isOpenModel()) {
+                runOpen(executor, report, start);
+            } else {
+                runClosed(executor, report, start);
+            }
+        } finally {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        report.finish(Duration.ofNanos(System.nanoTime() - start));
+        return report;
+    }
+
+    private void runOpen(ExecutorService executor, LoadReport report, long start) {
+        AtomicInteger inFlight = new AtomicInteger();
+        long durationNanos = profile.getDuration().toNanos();
+        for (long arrival = 0; ; arrival++) {
+            long offset = arrivalOffsetNanos(arrival);
+            if (offset >= durationNanos) {
+                return;
+            }
+            long scheduled = start + offset;
+            sleepUntil(scheduled);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            if (inFlight.get() >= profile.getMaxInFlight()) {
+                report.dropped();
+                continue;
+            }
+            LoadScenario scenario = scenarios.get((int) (arrival % scenarios.size()));
+            inFlight.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    runOnce(scenario, scheduled, report);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private void runClosed(ExecutorService executor, LoadReport report, long start) {
+        int users = profile.getConcurrency();
+        long end = start + profile.getDuration().toNanos();
+        long thinkNanos = profile.getThinkTime().toNanos();
+        List<Runnable> workers = new ArrayList<>();
+        for (int user = 0; user < users; user++) {
+            int id = user;
+            long firstStart = start + profile.getRampUp().toNanos() * user / users;
+            workers.add(() -> {
+                sleepUntil(firstStart);
+                long iteration = id;
+                while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                    LoadScenario scenario = scenarios.get((int) (iteration++ % scenarios.size()));
+                    runOnce(scenario, System.nanoTime(), report);
+                    if (thinkNanos > 0) {
+                        sleepUntil(Math.min(end, System.nanoTime() + thinkNanos));
+                    }
+                }
+            });
+        }
+        workers.forEach(executor::execute);
+    }
+
+    private static void runOnce(LoadScenario scenario, long startNanos, LoadReport report) {
+        Throwable failure = null;
+        try {
+            scenario.run();
+        } catch (Throwable t) {
+            failure = t;
+        }
+        report.record(scenario.getName(), (System.nanoTime() - startNanos) / 1000, failure);
+    }
+
+    /**
+     * Inverts the cumulative arrival count of a rate ramping linearly from zero to the target over the ramp-up:
+     * {@code rate * t^2 / (2 * rampUp)} while ramping, {@code rate * (t - rampUp / 2)} after it.
+     */
+    long arrivalOffsetNanos(long arrival) {
+        double rate = profile.getRatePerSecond();
+        double rampUp = profile.getRampUp().toNanos() / 1e9;
+        double rampArrivals = rate * rampUp / 2;
+        double seconds = arrival < rampArrivals
+                ? Math.sqrt(2 * rampUp * arrival / rate)
+                : rampUp + (arrival - rampArrivals) / rate;
+        return (long) (seconds * 1e9);
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
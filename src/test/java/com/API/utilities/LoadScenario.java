@@ -0,0 +1,27 @@
+package com.API.utilities;
+
+/**
+ * A named request plus its assertions, usually an existing test method such as
+ * {@code new GitAPITests()::verifyOrganizationInformation}. Any exception or assertion error counts as a failure.
+ */
+public class LoadScenario {
+    private final String name;
+    private final Runnable body;
+
+    public LoadScenario(String name, Runnable body) {
+        this.name = name;
+        this.body = body;
+    }
+
+    public static LoadScenario of(String name, Runnable body) {
+        return new LoadScenario(name, body);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void run() {
+        body.run();
+    }
+}
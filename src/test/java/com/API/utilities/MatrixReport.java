@@ -0,0 +1,236 @@
+package com.API.utilities;
+
+import groovy.json.JsonOutput;
+import groovy.json.JsonSlurper;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records the outcome of every test of a data-driven matrix. At JVM exit the results of this {@link Shard} go to
+ * {@code <matrix.report.dir>/shard-<index>-of-<count>.json} (default dir {@code target/matrix}) and the shard files
+ * of the same shard count found there are merged into {@code matrix-report.json}, so the shard that finishes last
+ * leaves the complete report; files left over from a run split another way are ignored. When shards run on separate
+ * agents, collect their shard files into one directory and merge them with
+ * {@code java -cp <test classpath> com.API.utilities.MatrixReport <dir> [<shard count>]}; without a count the one of
+ * the newest shard file is used.
+ * <p>
+ * Failures outside a test method, such as a dataset that cannot be read or a failing {@code @BeforeAll}, never reach
+ * the {@link TestWatcher} callbacks; the {@link Containers} listener, registered with the JUnit Platform through
+ * {@code META-INF/services}, records those of matrix classes.
+ */
+public class MatrixReport implements BeforeTestExecutionCallback, AfterTestExecutionCallback, TestWatcher {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(MatrixReport.class);
+    private static final String MERGED = "matrix-report.json";
+    private static final Queue<Map<String, Object>> RESULTS = new ConcurrentLinkedQueue<>();
+
+    static {
+        Path dir = Paths.get(System.getProperty("matrix.report.dir", "target/matrix"));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> writeShard(dir, Shard.current())));
+    }
+
+    public static void main(String[] args) {
+        Path dir = Paths.get(args.length > 0 ? args[0] : "target/matrix");
+        int shardCount = args.length > 1 ? Integer.parseInt(args[1]) : newestShardCount(dir);
+        Path merged = merge(dir, shardCount);
+        System.out.println("Merged matrix report of " + shardCount + " shard(s) written to " + merged);
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put("start", System.nanoTime());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Long start = context.getStore(NAMESPACE).remove("start", Long.class);
+        if (start != null) {
+            context.getStore(NAMESPACE).put("millis", (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        record(context, "passed", null);
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        record(context, "failed", cause);
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        record(context, "aborted", cause);
+    }
+
+    @Override
+    public void testDisabled(ExtensionContext context, Optional<String> reason) {
+        record(context, "disabled", null);
+    }
+
+    private static void record(ExtensionContext context, String status, Throwable cause) {
+        record(context.getRequiredTestClass().getSimpleName() + "." + context.getRequiredTestMethod().getName(),
+                context.getDisplayName(), status, context.getStore(NAMESPACE).get("millis", Long.class), cause);
+    }
+
+    private static void record(String test, String row, String status, Long millis, Throwable cause) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("test", test);
+        result.put("row", row);
+        result.put("status", status);
+        result.put("millis", millis);
+        if (cause != null) {
+            result.put("failure", String.valueOf(cause.getMessage()).trim().split("\\R", 2)[0]);
+        }
+        RESULTS.add(result);
+    }
+
+    static void writeShard(Path dir, Shard shard) {
+        if (RESULTS.isEmpty()) {
+            return;
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("shard", shard.getIndex());
+        report.put("shards", shard.getCount());
+        report.put("results", new ArrayList<>(RESULTS));
+        try {
+            Files.createDirectories(dir);
+            write(dir.resolve(shard + ".json"), report);
+            merge(dir, shard.getCount());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not write matrix report to " + dir + ": " + e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Path merge(Path dir, int shardCount) {
+        Map<String, Map<String, Object>> shards = new TreeMap<>();
+        List<Map<String, Object>> failures = new ArrayList<>();
+        Map<String, Long> totals = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "shard-*-of-" + shardCount + ".json")) {
+            for (Path file : files) {
+                Map<String, Object> shard = (Map<String, Object>) new JsonSlurper().parse(file.toFile());
+                if (((Number) shard.get("shards")).intValue() != shardCount) {
+                    continue;
+                }
+                Map<String, Long> counts = new TreeMap<>();
+                for (Map<String, Object> result : (List<Map<String, Object>>) shard.get("results")) {
+                    String status = (String) result.get("status");
+                    counts.merge(status, 1L, Long::sum);
+                    totals.merge(status, 1L, Long::sum);
+                    if ("failed".equals(status)) {
+                        failures.add(result);
+                    }
+                }
+                String name = file.getFileName().toString();
+                shards.put(name.substring(0, name.length() - ".json".length()), new LinkedHashMap<>(counts));
+            }
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("complete", shards.size() == shardCount);
+            report.put("shards", shards);
+            report.put("totals", totals);
+            report.put("failures", failures);
+            Path merged = dir.resolve(MERGED);
+            write(merged, report);
+            return merged;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not merge matrix reports in " + dir, e);
+        }
+    }
+
+    private static int newestShardCount(Path dir) {
+        Path newest = null;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "shard-*-of-*.json")) {
+            for (Path file : files) {
+                if (newest == null || Files.getLastModifiedTime(file).compareTo(Files.getLastModifiedTime(newest)) > 0) {
+                    newest = file;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list matrix reports in " + dir, e);
+        }
+        if (newest == null) {
+            throw new IllegalArgumentException("No shard reports in " + dir);
+        }
+        String name = newest.getFileName().toString();
+        return Integer.parseInt(name.substring(name.lastIndexOf("-of-") + "-of-".length(), name.length() - ".json".length()));
+    }
+
+    private static void write(Path file, Map<String, Object> content) throws IOException {
+        Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        Files.write(temp, JsonOutput.prettyPrint(JsonOutput.toJson(content)).getBytes(StandardCharsets.UTF_8));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Records failed and aborted containers of classes extended with {@link MatrixReport}: a whole test class, or a
+     * parameterized test that never got to its rows.
+     */
+    public static class Containers implements TestExecutionListener {
+
+        @Override
+        public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+            if (!identifier.isContainer() || result.getStatus() == TestExecutionResult.Status.SUCCESSFUL) {
+                return;
+            }
+            TestSource source = identifier.getSource().orElse(null);
+            String test;
+            Class<?> testClass;
+            if (source instanceof MethodSource) {
+                testClass = load(((MethodSource) source).getClassName());
+                test = testClass == null ? null : testClass.getSimpleName() + "." + ((MethodSource) source).getMethodName();
+            } else if (source instanceof ClassSource) {
+                testClass = ((ClassSource) source).getJavaClass();
+                test = testClass.getSimpleName();
+            } else {
+                return;
+            }
+            if (testClass != null && isMatrix(testClass)) {
+                String status = result.getStatus() == TestExecutionResult.Status.FAILED ? "failed" : "aborted";
+                record(test, null, status, null, result.getThrowable().orElse(null));
+            }
+        }
+
+        private static boolean isMatrix(Class<?> testClass) {
+            return AnnotationSupport.findRepeatableAnnotations(testClass, ExtendWith.class).stream().
+                    flatMap(extendWith -> Arrays.stream(extendWith.value())).
+                    anyMatch(MatrixReport.class::equals);
+        }
+
+        private static Class<?> load(String className) {
+            try {
+                return Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+            } catch (ClassNotFoundException e) {
+                return null;
+            }
+        }
+    }
+}
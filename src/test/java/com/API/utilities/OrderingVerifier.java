@@ -0,0 +1,106 @@
+package com.API.utilities;
+
+import java.util.Arrays;
+
+/**
+ * Checks that keys arrive in order, one element at a time, so sort checks run in a single pass over any number of
+ * pages without collecting or sorting a copy. Text keys compare like {@link String#compareTo}; timestamp keys are
+ * compared as epoch milliseconds parsed by {@link IsoTimestamp}. Equal neighbours are in order. Only the last two
+ * keys are kept, in reused buffers, so an element allocates nothing.
+ */
+public class OrderingVerifier {
+    private final boolean descending;
+    private final boolean timestamps;
+    private char[] last = new char[64];
+    private int lastLength = -1;
+    private char[] before = new char[64];
+    private int beforeLength = -1;
+    private long previousMillis;
+    private long count;
+    private long violations;
+
+    private OrderingVerifier(boolean descending, boolean timestamps) {
+        this.descending = descending;
+        this.timestamps = timestamps;
+    }
+
+    public static OrderingVerifier text(Direction direction) {
+        return new OrderingVerifier(direction == Direction.DESCENDING, false);
+    }
+
+    public static OrderingVerifier timestamps(Direction direction) {
+        return new OrderingVerifier(direction == Direction.DESCENDING, true);
+    }
+
+    public boolean accept(CharSequence key) {
+        char[] chars = new char[key.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = key.charAt(i);
+        }
+        return accept(chars, 0, chars.length);
+    }
+
+    /**
+     * @return whether the key is in order with the one accepted before it; the first key always is
+     */
+    public boolean accept(char[] key, int offset, int length) {
+        count++;
+        boolean inOrder;
+        if (timestamps) {
+            long millis = IsoTimestamp.epochMillis(key, offset, length);
+            inOrder = lastLength < 0 || (descending ? millis <= previousMillis : millis >= previousMillis);
+            previousMillis = millis;
+        } else {
+            int comparison = lastLength < 0 ? 0 : compare(key, offset, length);
+            inOrder = descending ? comparison <= 0 : comparison >= 0;
+        }
+        if (!inOrder) {
+            violations++;
+        }
+        remember(key, offset, length);
+        return inOrder;
+    }
+
+    /**
+     * The key accepted before the most recent one, i.e. the one it was compared against, for failure messages.
+     */
+    public String previous() {
+        return beforeLength < 0 ? null : new String(before, 0, beforeLength);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long violations() {
+        return violations;
+    }
+
+    public String describe() {
+        return (descending ? "descending" : "ascending") + (timestamps ? " timestamps" : " text");
+    }
+
+    private int compare(char[] key, int offset, int length) {
+        int common = Math.min(length, lastLength);
+        for (int i = 0; i < common; i++) {
+            int diff = key[offset + i] - last[i];
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - lastLength;
+    }
+
+    private void remember(char[] key, int offset, int length) {
+        char[] recycled = before;
+        before = last;
+        beforeLength = lastLength;
+        last = recycled.length < length ? Arrays.copyOf(recycled, Math.max(length, recycled.length * 2)) : recycled;
+        System.arraycopy(key, offset, last, 0, length);
+        lastLength = length;
+    }
+
+    public enum Direction {
+        ASCENDING, DESCENDING
+    }
+}
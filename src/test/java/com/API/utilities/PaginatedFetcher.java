@@ -0,0 +1,162 @@
+package com.API.utilities;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads every page of a GitHub-style paginated listing. The first page is fetched on the caller's thread;
+ * its {@code Link} header tells us the last page, and the remaining pages are fetched concurrently with at most
+ * {@code api.pagination.parallelism} pages in flight (default 4). A page is only requested once the caller has taken
+ * one off the stream, so a slow consumer holds a bounded number of responses. Pages come back in page order.
+ * Each page goes through the {@link RequestPolicy}, so a slow page is hedged and a 5xx retried on its own.
+ */
+public class PaginatedFetcher {
+    public static final int MAX_PER_PAGE = 100;
+
+    private static final Pattern LINK = Pattern.compile("<([^>]*)>\\s*;\\s*rel=\"([^\"]*)\"");
+    private static final int PARALLELISM = Integer.getInteger("api.pagination.parallelism", 4);
+    private static final ExecutorService SHARED = Executors.newFixedThreadPool(PARALLELISM, runnable -> {
+        Thread thread = new Thread(runnable, "page-fetcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ExecutorService executor;
+    private final int maxInFlight;
+    private final RequestPolicy policy;
+
+    public PaginatedFetcher() {
+        this(SHARED, PARALLELISM, RequestPolicy.shared());
+    }
+
+    public PaginatedFetcher(ExecutorService executor, int maxInFlight, RequestPolicy policy) {
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.policy = policy;
+    }
+
+    /**
+     * Page responses in page order. Use the stream in a try-with-resources block: closing it cancels the pages still
+     * in flight when the caller stops early, e.g. on a failed assertion. A page that fails cancels the rest itself.
+     *
+     * @param request builds a fresh request for each page; must not set the {@code page} query param itself
+     * @param path    the path to GET, e.g. {@code /orgs/{org}/repos}
+     */
+    public Stream<Response> pages(Supplier<RequestSpecification> request, String path) {
+        Response first = fetch(request, path, 1);
+        Pages rest = new Pages(request, path, lastPage(first.getHeader("Link")));
+        return Stream.concat(Stream.of(first),
+                StreamSupport.stream(Spliterators.spliterator(rest, rest.lastPage - 1, Spliterator.ORDERED), false)).
+                onClose(rest::cancel);
+    }
+
+    static int lastPage(String linkHeader) {
+        if (linkHeader == null) {
+            return 1;
+        }
+        Matcher matcher = LINK.matcher(linkHeader);
+        while (matcher.find()) {
+            if ("last".equals(matcher.group(2))) {
+                return pageOf(matcher.group(1));
+            }
+        }
+        // on the last page GitHub only sends prev/first links
+        return 1;
+    }
+
+    private static int pageOf(String url) {
+        String query = URI.create(url).getRawQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                if (pair.startsWith("page=")) {
+                    return Integer.parseInt(pair.substring("page=".length()));
+                }
+            }
+        }
+        throw new IllegalStateException("No page parameter in Link url " + url);
+    }
+
+    private Response fetch(Supplier<RequestSpecification> request, String path, int page) {
+        Response response = policy.get("GET " + path, () -> request.get().queryParam("page", page).when().get(path));
+        if (response.getStatusCode() != 200) {
+            throw new AssertionError("Page " + page + " of " + path + " failed: " + response.getStatusLine());
+        }
+        return response;
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching pages", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Pages 2 to {@code lastPage}, keeping at most {@code maxInFlight} of them requested but not yet taken.
+     */
+    private class Pages implements Iterator<Response> {
+        private final Supplier<RequestSpecification> request;
+        private final String path;
+        private final int lastPage;
+        private final Deque<Future<Response>> inFlight = new ArrayDeque<>();
+        private int nextPage = 2;
+
+        Pages(Supplier<RequestSpecification> request, String path, int lastPage) {
+            this.request = request;
+            this.path = path;
+            this.lastPage = lastPage;
+            fill();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !inFlight.isEmpty();
+        }
+
+        @Override
+        public Response next() {
+            if (inFlight.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Future<Response> page = inFlight.poll();
+            fill();
+            try {
+                return join(page);
+            } catch (RuntimeException | Error e) {
+                cancel();
+                throw e;
+            }
+        }
+
+        void cancel() {
+            inFlight.forEach(page -> page.cancel(true));
+            inFlight.clear();
+        }
+
+        private void fill() {
+            while (nextPage <= lastPage && inFlight.size() < maxInFlight) {
+                int page = nextPage++;
+                inFlight.add(executor.submit(ExchangeLog.propagate(() -> fetch(request, path, page))));
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.API.utilities;
+
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.HeaderElement;
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One connection pool for every request of the run, so repeated calls to the same host reuse kept-alive connections
+ * instead of paying TCP and TLS setup each time. RestAssured 4 still builds on the deprecated
+ * {@link DefaultHttpClient} API, hence the matching pool class.
+ * <p>
+ * Each request gets its own lightweight client over the pool rather than one shared client: RestAssured installs and
+ * then removes its content-decoding interceptors on the client at the start of every request, which would race between
+ * requests sharing one. RestAssured shuts a non-reused client's connection manager down after the response, so the
+ * clients see the pool through a manager that ignores that. Decoding is the {@link BodyBufferingFilter}'s job.
+ * <p>
+ * Sizing and timeouts come from system properties: {@code api.http.maxTotal} (default 50),
+ * {@code api.http.maxPerRoute} (20), {@code api.http.connectTimeoutMs} (5000), {@code api.http.readTimeoutMs} (30000),
+ * {@code api.http.poolTimeoutMs} (10000) and {@code api.http.keepAliveSeconds} (30, used when the server sends none).
+ */
+@SuppressWarnings("deprecation")
+public final class PooledHttpClient {
+    private static final PoolingClientConnectionManager POOL = new PoolingClientConnectionManager(
+            SchemeRegistryFactory.createSystemDefault());
+    private static final ClientConnectionManager KEPT_OPEN = new KeptOpen(POOL);
+    private static final ConnectionKeepAliveStrategy KEEP_ALIVE = keepAlive(Long.getLong("api.http.keepAliveSeconds", 30L));
+
+    static {
+        POOL.setMaxTotal(Integer.getInteger("api.http.maxTotal", 50));
+        POOL.setDefaultMaxPerRoute(Integer.getInteger("api.http.maxPerRoute", 20));
+    }
+
+    private static final RestAssuredConfig CONFIG = RestAssuredConfig.config().
+            // bodies are fetched compressed and decoded once by the BodyBufferingFilter
+            decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()).
+            httpClient(HttpClientConfig.httpClientConfig().
+                    httpClientFactory(PooledHttpClient::newClient).
+                    setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, Integer.getInteger("api.http.connectTimeoutMs", 5000)).
+                    setParam(CoreConnectionPNames.SO_TIMEOUT, Integer.getInteger("api.http.readTimeoutMs", 30000)).
+                    setParam(CoreConnectionPNames.STALE_CONNECTION_CHECK, true).
+                    setParam("http.conn-manager.timeout", Long.getLong("api.http.poolTimeoutMs", 10000L)));
+
+    private PooledHttpClient() {
+    }
+
+    public static RestAssuredConfig config() {
+        return CONFIG;
+    }
+
+    public static PoolingClientConnectionManager pool() {
+        return POOL;
+    }
+
+    public static void closeIdleConnections(long idleSeconds) {
+        POOL.closeExpiredConnections();
+        POOL.closeIdleConnections(idleSeconds, TimeUnit.SECONDS);
+    }
+
+    private static DefaultHttpClient newClient() {
+        DefaultHttpClient client = new DefaultHttpClient(KEPT_OPEN);
+        client.setKeepAliveStrategy(KEEP_ALIVE);
+        return client;
+    }
+
+    /**
+     * The shared pool as a client sees it; {@link #shutdown()} is a no-op so the pool outlives each request.
+     */
+    private static class KeptOpen implements ClientConnectionManager {
+        private final ClientConnectionManager pool;
+
+        KeptOpen(ClientConnectionManager pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public SchemeRegistry getSchemeRegistry() {
+            return pool.getSchemeRegistry();
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            return pool.requestConnection(route, state);
+        }
+
+        @Override
+        public void releaseConnection(ManagedClientConnection connection, long validDuration, TimeUnit timeUnit) {
+            pool.releaseConnection(connection, validDuration, timeUnit);
+        }
+
+        @Override
+        public void closeIdleConnections(long idleTime, TimeUnit timeUnit) {
+            pool.closeIdleConnections(idleTime, timeUnit);
+        }
+
+        @Override
+        public void closeExpiredConnections() {
+            pool.closeExpiredConnections();
+        }
+
+        @Override
+        public void shutdown() {
+            // the pool lives for the whole run
+        }
+    }
+
+    private static ConnectionKeepAliveStrategy keepAlive(long defaultSeconds) {
+        return (HttpResponse response, HttpContext context) -> {
+            BasicHeaderElementIterator elements = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (elements.hasNext()) {
+                HeaderElement element = elements.nextElement();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        return Long.parseLong(element.getValue()) * 1000;
+                    } catch (NumberFormatException ignored) {
+                        // fall through to the default
+                    }
+                }
+            }
+            return defaultSeconds * 1000;
+        };
+    }
+}
@@ -0,0 +1,237 @@
+package com.API.utilities;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket per host that follows the server's own quota: {@code X-RateLimit-Limit} is the capacity,
+ * {@code X-RateLimit-Remaining} the tokens left and {@code X-RateLimit-Reset} the moment it refills. Requests spend
+ * the quota at full speed and block only when it runs out, so the suite waits for the reset instead of failing on
+ * 403s. A {@code Retry-After} (GitHub's secondary limit) holds back the following requests on that host as well.
+ * Hosts that never send these headers are not limited.
+ * <p>
+ * A request can be tagged by adding the {@link #priority(Priority)} filter: {@link Priority#LOW} requests leave a quarter
+ * of the quota and {@link Priority#NORMAL} ones a twentieth to {@link Priority#HIGH} ones, and wait for the reset
+ * instead. The tag travels in the {@link FilterContext}, so it never reaches the server, and it is simply ignored when
+ * the scheduler is not installed.
+ * That reserve is given up when the reset is further away than {@code api.ratelimit.maxWaitSeconds} (default 120);
+ * an empty quota that far from its reset fails the request straight away rather than sending one that will be refused.
+ */
+public class RateLimitScheduler implements OrderedFilter {
+    private static final String PRIORITY = RateLimitScheduler.class.getName() + ".priority";
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Duration maxWait;
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicLong waitedMillis = new AtomicLong();
+
+    public RateLimitScheduler(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public static RateLimitScheduler fromSystemProperties() {
+        return new RateLimitScheduler(Duration.ofSeconds(Long.getLong("api.ratelimit.maxWaitSeconds", 120L)));
+    }
+
+    public static OrderedFilter priority(Priority priority) {
+        return new OrderedFilter() {
+            @Override
+            public Response filter(FilterableRequestSpecification requestSpec,
+                                   FilterableResponseSpecification responseSpec,
+                                   FilterContext ctx) {
+                ctx.setValue(PRIORITY, priority);
+                return ctx.next(requestSpec, responseSpec);
+            }
+
+            @Override
+            public int getOrder() {
+                return FilterOrder.PRIORITY;
+            }
+        };
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Priority priority = ctx.hasValue(PRIORITY) ? ctx.getValue(PRIORITY) : Priority.NORMAL;
+        String host = hostOf(requestSpec.getURI());
+        Bucket bucket = buckets.computeIfAbsent(host, Bucket::new);
+        bucket.acquire(priority);
+        Response response = null;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+            return response;
+        } finally {
+            bucket.release(response);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrder.RATE_LIMIT;
+    }
+
+    /**
+     * Requests the given host may still send in its current window, or -1 when it has not reported a quota.
+     */
+    public int remaining(String host) {
+        Bucket bucket = buckets.get(host);
+        return bucket == null ? -1 : bucket.remaining();
+    }
+
+    public long getWaits() {
+        return waits.get();
+    }
+
+    public Duration getWaited() {
+        return Duration.ofMillis(waitedMillis.get());
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimitScheduler{waits=" + waits + ", waited=" + getWaited() + ", hosts=" + buckets.values() + '}';
+    }
+
+    private static String hostOf(String uri) {
+        int start = uri.indexOf("://");
+        start = start < 0 ? 0 : start + 3;
+        int end = start;
+        while (end < uri.length() && "/?#".indexOf(uri.charAt(end)) < 0) {
+            end++;
+        }
+        return uri.substring(start, end);
+    }
+
+    private static Integer intHeader(Response response, String name) {
+        String value = response.getHeader(name);
+        try {
+            return value == null ? null : Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public enum Priority {
+        HIGH(0), NORMAL(20), LOW(4);
+
+        private final int reserveDivisor;
+
+        Priority(int reserveDivisor) {
+            this.reserveDivisor = reserveDivisor;
+        }
+
+        int reserve(int limit) {
+            return reserveDivisor == 0 ? 0 : limit / reserveDivisor;
+        }
+    }
+
+    private class Bucket {
+        private static final long RESET_SLACK_MILLIS = 1000;
+        private static final long PROBE_POLL_MILLIS = 50;
+
+        private final String host;
+        private int limit = -1;
+        private int tokens;
+        private long resetMillis;
+        private long blockedUntil;
+        private int inFlight;
+
+        Bucket(String host) {
+            this.host = host;
+        }
+
+        synchronized void acquire(Priority priority) {
+            long deadline = System.currentTimeMillis() + maxWait.toMillis();
+            long waitStart = 0;
+            while (true) {
+                long now = System.currentTimeMillis();
+                if (limit < 0 && now >= blockedUntil) {
+                    break;
+                }
+                int reserve = priority.reserve(limit);
+                if (now >= blockedUntil && now >= resetMillis && tokens <= reserve && inFlight == 0) {
+                    // the window has rolled over; one request finds out the new quota
+                    tokens = reserve + 1;
+                }
+                if (now >= blockedUntil && tokens > reserve) {
+                    break;
+                }
+                long wakeAt = now < blockedUntil ? blockedUntil
+                        : now < resetMillis ? resetMillis + RESET_SLACK_MILLIS
+                        : now + PROBE_POLL_MILLIS;
+                if (wakeAt > deadline) {
+                    if (now >= blockedUntil && tokens > 0) {
+                        break;
+                    }
+                    throw new IllegalStateException(String.format("Rate limit of %s exhausted (%d per window), "
+                            + "it resets at %s, more than %ds from now", host, limit,
+                            Instant.ofEpochMilli(Math.max(blockedUntil, resetMillis)), maxWait.getSeconds()));
+                }
+                if (waitStart == 0) {
+                    waitStart = now;
+                    waits.incrementAndGet();
+                }
+                try {
+                    wait(wakeAt - now);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the rate limit of " + host, e);
+                }
+            }
+            if (waitStart != 0) {
+                waitedMillis.addAndGet(System.currentTimeMillis() - waitStart);
+            }
+            tokens--;
+            inFlight++;
+        }
+
+        synchronized void release(Response response) {
+            inFlight--;
+            if (response != null) {
+                update(response);
+            }
+            notifyAll();
+        }
+
+        synchronized int remaining() {
+            return limit < 0 ? -1 : Math.max(0, tokens);
+        }
+
+        private void update(Response response) {
+            Integer retryAfter = intHeader(response, "Retry-After");
+            if (retryAfter != null) {
+                blockedUntil = Math.max(blockedUntil, System.currentTimeMillis() + retryAfter * 1000L);
+            }
+            Integer newLimit = intHeader(response, "X-RateLimit-Limit");
+            Integer remaining = intHeader(response, "X-RateLimit-Remaining");
+            Integer reset = intHeader(response, "X-RateLimit-Reset");
+            if (remaining == null || reset == null) {
+                return;
+            }
+            limit = newLimit == null ? Math.max(limit, remaining) : newLimit;
+            long newReset = reset * 1000L;
+            // requests still in flight were sent against this quota but are not counted in it yet
+            if (newReset > resetMillis) {
+                resetMillis = newReset;
+                tokens = remaining - inFlight;
+            } else if (newReset == resetMillis) {
+                tokens = Math.min(tokens, remaining - inFlight);
+            }
+        }
+
+        @Override
+        public synchronized String toString() {
+            return host + "=" + (limit < 0 ? "unlimited" : tokens + "/" + limit + " until " + Instant.ofEpochMilli(resetMillis));
+        }
+    }
+}
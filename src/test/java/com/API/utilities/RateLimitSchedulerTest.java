@@ -0,0 +1,112 @@
+package com.API.utilities;
+
+import com.API.utilities.RateLimitScheduler.Priority;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/*
+A local server with a quota of 20 requests per window, like GitHub reports it. The first window ends within a few
+seconds, the next one only after a minute.
+ */
+public class RateLimitSchedulerTest {
+    private static final int LIMIT = 20;
+
+    private HttpServer server;
+    private final List<String> headerNames = new CopyOnWriteArrayList<>();
+    private int remaining = LIMIT;
+    private long resetSeconds;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            headerNames.addAll(exchange.getRequestHeaders().keySet());
+            synchronized (this) {
+                if (System.currentTimeMillis() >= resetSeconds * 1000) {
+                    remaining = LIMIT;
+                    resetSeconds += 60;
+                }
+                remaining--;
+                exchange.getResponseHeaders().add("X-RateLimit-Limit", String.valueOf(LIMIT));
+                exchange.getResponseHeaders().add("X-RateLimit-Remaining", String.valueOf(remaining));
+                exchange.getResponseHeaders().add("X-RateLimit-Reset", String.valueOf(resetSeconds));
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    private synchronized void startWindow() {
+        remaining = LIMIT;
+        resetSeconds = System.currentTimeMillis() / 1000 + 3;
+    }
+
+    private Response get(RateLimitScheduler scheduler, Priority priority) {
+        return given().
+                filters(scheduler, RateLimitScheduler.priority(priority), new BodyBufferingFilter()).
+                config(PooledHttpClient.config()).
+                baseUri("http://127.0.0.1:" + server.getAddress().getPort()).
+        when().
+                get("/");
+    }
+
+    @Test
+    public void lowPriorityLeavesTheReserveToHighPriority() {
+        // the first request of a JVM is slow, it must not eat into the short window
+        get(new RateLimitScheduler(Duration.ofSeconds(10)), Priority.HIGH);
+        startWindow();
+
+        RateLimitScheduler scheduler = new RateLimitScheduler(Duration.ofSeconds(10));
+        String host = "127.0.0.1:" + server.getAddress().getPort();
+        for (int i = 0; i < 15; i++) {
+            get(scheduler, Priority.HIGH);
+        }
+        assertThat(scheduler.remaining(host), is(5));
+
+        // a quarter of the quota is left, so only high priority requests go now
+        long start = System.nanoTime();
+        get(scheduler, Priority.HIGH);
+        assertThat(scheduler.getWaits(), is(0L));
+
+        get(scheduler, Priority.LOW);
+        assertThat(scheduler.getWaits(), is(1L));
+        assertThat(Duration.ofNanos(System.nanoTime() - start), greaterThan(Duration.ofSeconds(1)));
+        // sent in the new window
+        assertThat(scheduler.remaining(host), is(LIMIT - 1));
+    }
+
+    @Test
+    public void priorityNeverReachesTheServer() {
+        startWindow();
+        get(new RateLimitScheduler(Duration.ofSeconds(10)), Priority.LOW);
+        given().
+                filters(RateLimitScheduler.priority(Priority.HIGH), new BodyBufferingFilter()).
+                config(PooledHttpClient.config()).
+                baseUri("http://127.0.0.1:" + server.getAddress().getPort()).
+        when().
+                get("/").
+        then().
+                statusCode(204);
+        assertThat(headerNames, everyItem(not(containsStringIgnoringCase("priority"))));
+    }
+}
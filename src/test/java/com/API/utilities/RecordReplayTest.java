@@ -0,0 +1,112 @@
+package com.API.utilities;
+
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/*
+Records exchanges with a local origin through the RecordingFilter, then replays them from the StubServer
+without the origin, the way -Dapi.mode=record and -Dapi.mode=replay do against the real upstreams.
+ */
+public class RecordReplayTest {
+    private static HttpServer origin;
+    private static final AtomicInteger originCalls = new AtomicInteger();
+
+    @TempDir
+    static Path fixtures;
+
+    @BeforeAll
+    public static void startOrigin() throws IOException {
+        origin = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        origin.createContext("/orgs", exchange -> {
+            originCalls.incrementAndGet();
+            boolean xml = "application/xml".equals(exchange.getRequestHeaders().getFirst("Accept"));
+            byte[] body = (xml ? "{\"message\":\"Unsupported\"}" : "{\"login\":\"cucumber\",\"query\":\""
+                    + exchange.getRequestURI().getQuery() + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            exchange.sendResponseHeaders(xml ? 415 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        origin.start();
+    }
+
+    @AfterAll
+    public static void stopOrigin() {
+        origin.stop(0);
+    }
+
+    private static String originUri() {
+        return "http://127.0.0.1:" + origin.getAddress().getPort();
+    }
+
+    private static Response send(String baseUri, String accept, FixtureStore recordInto) {
+        return (recordInto == null
+                ? given().filter(new BodyBufferingFilter())
+                : given().filters(new BodyBufferingFilter(), new RecordingFilter(recordInto))).
+                config(PooledHttpClient.config()).
+                baseUri(baseUri).
+                header("Accept", accept).
+                queryParam("b", "2").
+                queryParam("a", "1 1").
+        when().
+                get("/orgs/cucumber");
+    }
+
+    @Test
+    public void replaysWhatWasRecorded(){
+        FixtureStore store = new FixtureStore(fixtures.resolve("replays"));
+        Response json = send(originUri(), "application/json", store);
+        Response xml = send(originUri(), "application/xml", store);
+        int recordedCalls = originCalls.get();
+
+        StubServer stub = StubServer.start(originUri(), store);
+        try {
+            Response replayedJson = send(stub.getOrigin(), "application/json", null);
+            assertThat(replayedJson.statusCode(), is(200));
+            assertThat(replayedJson.asString(), is(json.asString()));
+            assertThat(replayedJson.header("ETag"), is("\"v1\""));
+
+            Response replayedXml = send(stub.getOrigin(), "application/xml", null);
+            assertThat(replayedXml.statusCode(), is(415));
+            assertThat(replayedXml.asString(), is(xml.asString()));
+
+            // the origin is not asked again
+            assertThat(originCalls.get(), is(recordedCalls));
+        } finally {
+            stub.stop();
+        }
+    }
+
+    @Test
+    public void unrecordedRequestIsNotImplemented(){
+        FixtureStore store = new FixtureStore(fixtures.resolve("misses"));
+        send(originUri(), "application/json", store);
+
+        StubServer stub = StubServer.start(originUri(), store);
+        try {
+            Response missing = send(stub.getOrigin(), "text/plain", null);
+            assertThat(missing.statusCode(), is(501));
+            assertThat(missing.asString(), containsString("accept=text/plain"));
+        } finally {
+            stub.stop();
+        }
+    }
+}
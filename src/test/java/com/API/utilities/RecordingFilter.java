@@ -0,0 +1,44 @@
+package com.API.utilities;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Passes every request through to the live upstream and writes the exchange to the {@link FixtureStore}.
+ * Runs next to the network, behind only the {@link BodyBufferingFilter}, so that fixtures hold exactly what the
+ * server sent, decompressed.
+ */
+public class RecordingFilter implements OrderedFilter {
+    private final FixtureStore store;
+
+    public RecordingFilter(FixtureStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        String key = FixtureStore.key(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getHeaders().getValue("Accept"));
+        List<List<String>> headers = new ArrayList<>();
+        for (Header header : response.getHeaders()) {
+            headers.add(Arrays.asList(header.getName(), header.getValue()));
+        }
+        store.save(key, response.getStatusCode(), headers, response.asString());
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrder.RECORDING;
+    }
+}
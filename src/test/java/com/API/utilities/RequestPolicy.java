@@ -0,0 +1,275 @@
+package com.API.utilities;
+
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Hedging and retries for idempotent GETs. Filters cannot send a request twice, so the policy wraps the whole call:
+ * {@code RequestPolicy.shared().get("GET /houses", () -> given().spec(spec).get("/houses"))}. The endpoint names the
+ * {@link LatencyRecorder} histogram the hedge delay comes from.
+ * <p>
+ * When an attempt has not answered after the endpoint's {@code api.hedge.percentile} latency (default p95, never below
+ * {@code api.hedge.minDelayMillis}), a duplicate is sent and the first good answer wins. Until
+ * {@code api.hedge.minSamples} calls are recorded the percentile means little, so {@code api.hedge.defaultDelayMillis}
+ * (default 1000) stands in for it; the other one finishes in the background. A 5xx or a connection error is retried
+ * up to {@code api.retry.maxAttempts} attempts in all, after a full-jitter exponential backoff starting at
+ * {@code api.retry.baseDelayMillis} and capped at {@code api.retry.maxDelayMillis}. The last 5xx is returned for the
+ * test to assert on. How often hedges and retries fired goes to {@code api.policy.report} (default
+ * {@code target/request-policy.json}) at JVM exit.
+ */
+public class RequestPolicy {
+    private static final RequestPolicy SHARED = fromSystemProperties();
+    private static final ExecutorService HEDGES = Threads.newPerTaskExecutor("hedge");
+    private static final ThreadLocal<Boolean> HEDGING = ThreadLocal.withInitial(() -> false);
+
+    private final boolean hedging;
+    private final double hedgePercentile;
+    private final long minSamples;
+    private final long defaultDelayMillis;
+    private final long minDelayMillis;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    static {
+        JsonReport.atExit("api.policy.report", "target/request-policy.json",
+                () -> SHARED.getRequests() == 0 ? Map.of() : SHARED.summary());
+    }
+
+    public RequestPolicy(boolean hedging, double hedgePercentile, long minSamples, long defaultDelayMillis,
+                         long minDelayMillis, int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1 but was " + maxAttempts);
+        }
+        this.hedging = hedging;
+        this.hedgePercentile = hedgePercentile;
+        this.minSamples = minSamples;
+        this.defaultDelayMillis = defaultDelayMillis;
+        this.minDelayMillis = minDelayMillis;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public static RequestPolicy fromSystemProperties() {
+        return new RequestPolicy(
+                Boolean.parseBoolean(System.getProperty("api.hedge", "true")),
+                Double.parseDouble(System.getProperty("api.hedge.percentile", "95")),
+                Long.getLong("api.hedge.minSamples", 20L),
+                Long.getLong("api.hedge.defaultDelayMillis", 1000L),
+                Long.getLong("api.hedge.minDelayMillis", 50L),
+                Integer.getInteger("api.retry.maxAttempts", 3),
+                Long.getLong("api.retry.baseDelayMillis", 200L),
+                Long.getLong("api.retry.maxDelayMillis", 5000L));
+    }
+
+    public static RequestPolicy shared() {
+        return SHARED;
+    }
+
+    /**
+     * @param endpoint method and path template, e.g. {@code GET /houses/{id}}
+     * @param request  sends one idempotent request; called again for every hedge and retry
+     */
+    public Response get(String endpoint, Supplier<Response> request) {
+        requests.incrementAndGet();
+        for (int attempt = 1; ; attempt++) {
+            Outcome outcome = hedged(endpoint, request);
+            if (outcome.good() || attempt == maxAttempts || !outcome.retryable()) {
+                if (!outcome.good() && outcome.retryable()) {
+                    exhausted.incrementAndGet();
+                }
+                return outcome.get(endpoint, attempt);
+            }
+            retries.incrementAndGet();
+            sleep(backoffMillis(attempt));
+        }
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getHedges() {
+        return hedges.get();
+    }
+
+    public long getHedgeWins() {
+        return hedgeWins.get();
+    }
+
+    public long getRetries() {
+        return retries.get();
+    }
+
+    public long getExhausted() {
+        return exhausted.get();
+    }
+
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", requests.get());
+        summary.put("hedges", hedges.get());
+        summary.put("hedge_wins", hedgeWins.get());
+        summary.put("retries", retries.get());
+        summary.put("exhausted", exhausted.get());
+        return summary;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestPolicy" + summary();
+    }
+
+    private Outcome hedged(String endpoint, Supplier<Response> request) {
+        long delay = hedgeDelayMillis(endpoint);
+        if (delay < 0) {
+            return Outcome.of(request, false);
+        }
+        BlockingQueue<Outcome> outcomes = new LinkedBlockingQueue<>();
+        HEDGES.submit(send(request, false, outcomes));
+        Outcome first = poll(outcomes, delay);
+        if (first != null) {
+            return first;
+        }
+        hedges.incrementAndGet();
+        HEDGES.submit(send(request, true, outcomes));
+        first = poll(outcomes, Long.MAX_VALUE);
+        Outcome winner = first.good() ? first : poll(outcomes, Long.MAX_VALUE);
+        if (winner.good() && winner.hedge) {
+            hedgeWins.incrementAndGet();
+        }
+        return winner;
+    }
+
+    /**
+     * Milliseconds to wait before hedging, or -1 while hedging is off.
+     */
+    long hedgeDelayMillis(String endpoint) {
+        if (!hedging) {
+            return -1;
+        }
+        LatencyHistogram histogram = LatencyRecorder.instance().find(endpoint);
+        if (histogram == null || histogram.count() < minSamples) {
+            return defaultDelayMillis;
+        }
+        return Math.max(minDelayMillis, histogram.percentileMicros(hedgePercentile) / 1000);
+    }
+
+    /**
+     * Full jitter: anywhere between zero and the exponential delay for the attempt that just failed, capped.
+     */
+    long backoffMillis(int attempt) {
+        return ThreadLocalRandom.current().nextLong(Math.min(maxDelayMillis, baseDelayMillis << (attempt - 1)) + 1);
+    }
+
+    /**
+     * Whether the current thread is sending a hedge. The {@link ResponseCache} lets such a request through instead of
+     * having it wait for the very request it duplicates.
+     */
+    static boolean isHedge() {
+        return HEDGING.get();
+    }
+
+    private static Callable<Void> send(Supplier<Response> request, boolean hedge, BlockingQueue<Outcome> outcomes) {
+        return ExchangeLog.propagate(() -> {
+            HEDGING.set(hedge);
+            try {
+                outcomes.add(Outcome.of(request, hedge));
+            } finally {
+                HEDGING.remove();
+            }
+            return null;
+        });
+    }
+
+    private static Outcome poll(BlockingQueue<Outcome> outcomes, long millis) {
+        try {
+            return outcomes.poll(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a response", e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off", e);
+        }
+    }
+
+    private static class Outcome {
+        private final Response response;
+        private final Throwable failure;
+        private final boolean hedge;
+
+        private Outcome(Response response, Throwable failure, boolean hedge) {
+            this.response = response;
+            this.failure = failure;
+            this.hedge = hedge;
+        }
+
+        static Outcome of(Supplier<Response> request, boolean hedge) {
+            try {
+                return new Outcome(request.get(), null, hedge);
+            } catch (Throwable t) {
+                return new Outcome(null, t, hedge);
+            }
+        }
+
+        boolean good() {
+            return failure == null && response.statusCode() < 500;
+        }
+
+        /**
+         * A 5xx, or an I/O failure other than an unknown host, which no retry will fix.
+         */
+        boolean retryable() {
+            if (failure == null) {
+                return response.statusCode() >= 500;
+            }
+            for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+                if (cause instanceof UnknownHostException) {
+                    return false;
+                }
+                if (cause instanceof IOException) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Response get(String endpoint, int attempts) {
+            if (failure == null) {
+                return response;
+            }
+            if (failure instanceof RuntimeException && !retryable()) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new IllegalStateException(endpoint + " failed after " + attempts + " attempt(s)", failure);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.API.utilities;
+
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+The local server answers /stall/<name> after two seconds the first time and at once afterwards, and
+/fail/<n>/<name> with a 503 for the first n calls.
+ */
+public class RequestPolicyTest {
+    private static HttpServer server;
+    // test methods run concurrently, so each one asks for its own paths
+    private static final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            String[] path = exchange.getRequestURI().getPath().split("/");
+            int call = calls.computeIfAbsent(exchange.getRequestURI().getPath(), p -> new AtomicInteger()).incrementAndGet();
+            int status = 200;
+            if ("stall".equals(path[1]) && call == 1) {
+                try {
+                    Thread.sleep(2000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else if ("fail".equals(path[1]) && call <= Integer.parseInt(path[2])) {
+                status = 503;
+            }
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.stop(0);
+    }
+
+    private static Response get(String path) {
+        return given().
+                filter(new BodyBufferingFilter()).
+                config(PooledHttpClient.config()).
+                baseUri("http://127.0.0.1:" + server.getAddress().getPort()).
+        when().
+                get(path);
+    }
+
+    private static RequestPolicy hedging(long defaultDelayMillis) {
+        return new RequestPolicy(true, 95, 20, defaultDelayMillis, 50, 1, 0, 0);
+    }
+
+    private static RequestPolicy retrying(int maxAttempts) {
+        return new RequestPolicy(false, 95, 20, 0, 50, maxAttempts, 10, 50);
+    }
+
+    @Test
+    public void stalledRequestIsHedgedAfterTheDefaultDelay() {
+        // the first requests of a JVM are slow, the hedge must not fire before the server even sees the request
+        get("/fail/0/warm-up");
+        // the endpoint has no recorded latencies yet
+        RequestPolicy policy = hedging(100);
+        long start = System.nanoTime();
+        Response response = policy.get("GET /stall/hedged", () -> get("/stall/hedged"));
+
+        assertThat(response.statusCode(), is(200));
+        assertThat(Duration.ofNanos(System.nanoTime() - start), lessThan(Duration.ofMillis(1500)));
+        assertThat(policy.getHedges(), is(1L));
+        assertThat(policy.getHedgeWins(), is(1L));
+        assertThat(calls.get("/stall/hedged").get(), is(2));
+    }
+
+    @Test
+    public void hedgeThroughTheSharedFiltersReachesTheServer() {
+        // the shared spec's ResponseCache must not fold the hedge into the stalled request it duplicates
+        get("/fail/0/warm-up-shared");
+        String origin = "http://127.0.0.1:" + server.getAddress().getPort();
+        RequestPolicy policy = hedging(100);
+        long start = System.nanoTime();
+        Response response = policy.get("GET /stall/{name}", () -> given().
+                spec(ApiEnvironment.requestSpec(origin)).
+                baseUri(origin).
+        when().
+                get("/stall/shared"));
+
+        assertThat(response.statusCode(), is(200));
+        assertThat(Duration.ofNanos(System.nanoTime() - start), lessThan(Duration.ofMillis(1500)));
+        assertThat(policy.getHedges(), is(1L));
+        assertThat(calls.get("/stall/shared").get(), is(2));
+    }
+
+    @Test
+    public void promptAnswerIsNotHedged() {
+        RequestPolicy policy = hedging(1000);
+        get("/stall/warm");
+        policy.get("GET /stall/warm", () -> get("/stall/warm")).then().statusCode(200);
+
+        assertThat(policy.getHedges(), is(0L));
+        assertThat(calls.get("/stall/warm").get(), is(2));
+    }
+
+    @Test
+    public void defaultDelayStandsInUntilEnoughSamples() {
+        RequestPolicy policy = new RequestPolicy(true, 50, 3, 700, 10, 1, 0, 0);
+        LatencyHistogram histogram = LatencyRecorder.instance().histogram("GET /policy-test/samples");
+        assertThat(policy.hedgeDelayMillis("GET /policy-test/samples"), is(700L));
+        for (int i = 0; i < 3; i++) {
+            histogram.record(200_000);
+        }
+        assertThat(policy.hedgeDelayMillis("GET /policy-test/samples"), is(both(greaterThanOrEqualTo(190L)).and(lessThanOrEqualTo(210L))));
+        assertThat(retrying(3).hedgeDelayMillis("GET /policy-test/samples"), is(-1L));
+    }
+
+    @Test
+    public void serverErrorsAreRetried() {
+        RequestPolicy policy = retrying(3);
+        Response response = policy.get("GET /fail/{n}/{name}", () -> get("/fail/2/retried"));
+
+        assertThat(response.statusCode(), is(200));
+        assertThat(policy.getRetries(), is(2L));
+        assertThat(policy.getExhausted(), is(0L));
+        assertThat(calls.get("/fail/2/retried").get(), is(3));
+    }
+
+    @Test
+    public void lastServerErrorIsReturnedOnceAttemptsRunOut() {
+        RequestPolicy policy = retrying(3);
+        Response response = policy.get("GET /fail/{n}/{name}", () -> get("/fail/9/exhausted"));
+
+        assertThat(response.statusCode(), is(503));
+        assertThat(policy.getExhausted(), is(1L));
+        assertThat(calls.get("/fail/9/exhausted").get(), is(3));
+    }
+
+    @Test
+    public void connectionErrorsAreRetriedButUnknownHostsAreNot() {
+        RequestPolicy policy = retrying(3);
+        AtomicInteger attempts = new AtomicInteger();
+        assertThrows(IllegalStateException.class, () -> policy.get("GET /refused", () -> {
+            attempts.incrementAndGet();
+            throw new UncheckedIOException(new IOException("Connection refused"));
+        }));
+        assertThat(attempts.get(), is(3));
+
+        attempts.set(0);
+        assertThrows(UncheckedIOException.class, () -> policy.get("GET /unknown", () -> {
+            attempts.incrementAndGet();
+            throw new UncheckedIOException(new UnknownHostException("nowhere.invalid"));
+        }));
+        assertThat(attempts.get(), is(1));
+    }
+
+    @Test
+    public void backoffIsFullJitterUnderACap() {
+        RequestPolicy policy = new RequestPolicy(false, 95, 20, 0, 50, 6, 100, 300);
+        for (int attempt = 1; attempt <= 5; attempt++) {
+            long cap = Math.min(300, 100L << (attempt - 1));
+            long max = 0;
+            for (int i = 0; i < 1000; i++) {
+                long delay = policy.backoffMillis(attempt);
+                assertThat(delay, is(both(greaterThanOrEqualTo(0L)).and(lessThanOrEqualTo(cap))));
+                max = Math.max(max, delay);
+            }
+            // the delay grows with the attempt until it reaches the cap
+            assertThat(max, greaterThan(cap * 9 / 10));
+        }
+    }
+}
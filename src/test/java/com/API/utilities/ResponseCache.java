@@ -0,0 +1,172 @@
+package com.API.utilities;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Session-wide cache for GET responses, keyed on method, normalized URI and the Accept/Authorization headers.
+ * Entries are evicted least-recently-used once {@code maxEntries} is reached and expire after {@code ttlMillis}.
+ * Only 2xx responses are cached; a 304 never gets here, the {@link ConditionalRequestCache} further in turns it into
+ * a 200. Concurrent misses on one key send a single request: the first caller puts a pending future in the map and
+ * the others wait for it. A {@link RequestPolicy} hedge bypasses the cache, since it is only sent because the request
+ * it would wait for is slow. Every hit hands out its own copy, so callers can consume the body freely.
+ * The shared cache writes its counters to {@code api.cache.report} (default {@code target/response-cache.json}) at exit.
+ */
+public class ResponseCache implements OrderedFilter {
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<String, CompletableFuture<CachedResponse>> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ResponseCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<String, CompletableFuture<CachedResponse>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<CachedResponse>> eldest) {
+                boolean evict = size() > ResponseCache.this.maxEntries;
+                if (evict) {
+                    evictions.incrementAndGet();
+                }
+                return evict;
+            }
+        };
+    }
+
+    public static ResponseCache fromSystemProperties() {
+        return new ResponseCache(Integer.getInteger("api.cache.maxEntries", 256),
+                Long.getLong("api.cache.ttlSeconds", 300L) * 1000);
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!"GET".equalsIgnoreCase(requestSpec.getMethod()) || RequestPolicy.isHedge()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        String key = key(requestSpec);
+        CompletableFuture<CachedResponse> pending = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> existing = lookupOrClaim(key, pending);
+        if (existing != null) {
+            CachedResponse cached = existing.join();
+            if (cached != null) {
+                hits.incrementAndGet();
+                return copy(cached.response);
+            }
+            // the request this one waited for was not cacheable, so it has to be sent itself
+            misses.incrementAndGet();
+            return ctx.next(requestSpec, responseSpec);
+        }
+        misses.incrementAndGet();
+        CachedResponse cached = null;
+        try {
+            Response response = copy(ctx.next(requestSpec, responseSpec));
+            if (response.getStatusCode() >= 200 && response.getStatusCode() < 300) {
+                cached = new CachedResponse(response, System.currentTimeMillis() + ttlMillis);
+            }
+            return copy(response);
+        } finally {
+            if (cached == null) {
+                synchronized (entries) {
+                    entries.remove(key, pending);
+                }
+            }
+            pending.complete(cached);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrder.CACHE;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseCache{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", size=" + size() + '}';
+    }
+
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("hits", hits.get());
+        summary.put("misses", misses.get());
+        summary.put("evictions", evictions.get());
+        summary.put("size", size());
+        return summary;
+    }
+
+    /**
+     * @return the live or in-flight entry for the key, or {@code null} once {@code pending} is mapped in its place
+     */
+    private CompletableFuture<CachedResponse> lookupOrClaim(String key, CompletableFuture<CachedResponse> pending) {
+        synchronized (entries) {
+            CompletableFuture<CachedResponse> existing = entries.get(key);
+            if (existing != null && existing.isDone() && existing.join().expiresAt < System.currentTimeMillis()) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+                existing = null;
+            }
+            if (existing == null) {
+                entries.put(key, pending);
+            }
+            return existing;
+        }
+    }
+
+    private static String key(FilterableRequestSpecification requestSpec) {
+        String authorization = requestSpec.getHeaders().getValue("Authorization");
+        return FixtureStore.key(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getHeaders().getValue("Accept"))
+                + (authorization == null ? "" : " auth=" + Integer.toHexString(authorization.hashCode()));
+    }
+
+    private static Response copy(Response response) {
+        // clone() shares the body stream, so the body has to be materialized and set explicitly
+        byte[] body = response.asByteArray();
+        return new ResponseBuilder().clone(response).setBody(body).build();
+    }
+
+    private static class CachedResponse {
+        private final Response response;
+        private final long expiresAt;
+
+        CachedResponse(Response response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.API.utilities;
+
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ResponseCacheTest {
+    private static HttpServer origin;
+    // test methods run concurrently, so each one asks for its own paths
+    private static final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+    @BeforeAll
+    public static void startOrigin() throws IOException {
+        origin = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        origin.setExecutor(Executors.newCachedThreadPool());
+        origin.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            calls.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+            int status = Integer.parseInt(path.substring(path.lastIndexOf('/') + 1));
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"status\":" + status + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        origin.start();
+    }
+
+    @AfterAll
+    public static void stopOrigin() {
+        origin.stop(0);
+    }
+
+    private static int callsTo(String prefix) {
+        return calls.entrySet().stream().
+                filter(entry -> entry.getKey().startsWith(prefix)).
+                mapToInt(entry -> entry.getValue().get()).
+                sum();
+    }
+
+    private static Response get(ResponseCache cache, String path) {
+        return given().
+                filters(cache, new BodyBufferingFilter()).
+                config(PooledHttpClient.config()).
+                baseUri("http://127.0.0.1:" + origin.getAddress().getPort()).
+        when().
+                get(path);
+    }
+
+    @Test
+    public void concurrentMissesSendOneRequest() throws Exception {
+        ResponseCache cache = new ResponseCache(16, 60_000);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> bodies = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                bodies.add(pool.submit(() -> {
+                    start.await();
+                    return get(cache, "/single/200").asString();
+                }));
+            }
+            start.countDown();
+            for (Future<String> body : bodies) {
+                assertThat(body.get(), is("{\"status\":200}"));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(callsTo("/single/"), is(1));
+        assertThat(cache.getMisses(), is(1L));
+        assertThat(cache.getHits(), is(7L));
+    }
+
+    @Test
+    public void onlySuccessfulResponsesAreCached() {
+        ResponseCache cache = new ResponseCache(16, 60_000);
+        for (String status : new String[]{"404", "429", "403", "404", "429", "403", "200", "200"}) {
+            get(cache, "/statuses/" + status);
+        }
+        assertThat(callsTo("/statuses/"), is(7));
+        assertThat(cache.size(), is(1));
+    }
+}
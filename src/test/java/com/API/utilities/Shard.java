@@ -0,0 +1,47 @@
+package com.API.utilities;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * The slice of a data-driven test matrix this JVM runs: {@code shard.index} (0-based, default 0) of
+ * {@code shard.count} (default 1). A row belongs to the shard its key hashes to, so every row runs in exactly one
+ * shard and always the same one, whatever order or machine the shards run in.
+ */
+public final class Shard {
+    private static final Shard CURRENT = new Shard(Integer.getInteger("shard.index", 0), Integer.getInteger("shard.count", 1));
+
+    private final int index;
+    private final int count;
+
+    public Shard(int index, int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Shard index must be in [0, " + count + ") but was " + index);
+        }
+        this.index = index;
+        this.count = count;
+    }
+
+    public static Shard current() {
+        return CURRENT;
+    }
+
+    public boolean owns(String rowKey) {
+        CRC32 crc = new CRC32();
+        crc.update(String.valueOf(rowKey).getBytes(StandardCharsets.UTF_8));
+        return crc.getValue() % count == index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "shard-" + index + "-of-" + count;
+    }
+}
@@ -0,0 +1,25 @@
+package com.API.utilities;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * Runs the test methods of a matrix class that take no {@link ShardedCsvSource} rows in shard 0 only, so splitting a
+ * run into N shards does not repeat them N times.
+ */
+public class ShardCondition implements ExecutionCondition {
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        if (context.getTestMethod().isEmpty()
+                || AnnotationSupport.isAnnotated(context.getTestMethod(), ShardedCsvSource.class)) {
+            return ConditionEvaluationResult.enabled("sharded by its dataset");
+        }
+        Shard shard = Shard.current();
+        return shard.getIndex() == 0
+                ? ConditionEvaluationResult.enabled("not sharded, runs in shard 0")
+                : ConditionEvaluationResult.disabled("not sharded, runs in shard 0 only, this is " + shard);
+    }
+}
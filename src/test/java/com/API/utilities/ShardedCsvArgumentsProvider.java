@@ -0,0 +1,94 @@
+package com.API.utilities;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads the dataset of a {@link ShardedCsvSource}. When the current {@link Shard} owns none of its rows the test is
+ * aborted (reported as skipped) rather than failed for lack of arguments.
+ */
+public class ShardedCsvArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<ShardedCsvSource> {
+    private String resource;
+    private String override;
+
+    @Override
+    public void accept(ShardedCsvSource source) {
+        this.resource = source.value();
+        this.override = source.property().isEmpty() ? null : System.getProperty(source.property());
+    }
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+        Shard shard = Shard.current();
+        List<Arguments> owned = rows().stream().
+                filter(row -> shard.owns(row[0])).
+                map(row -> Arguments.of((Object[]) row)).
+                collect(Collectors.toList());
+        // JUnit fails a parameterized test without arguments; a shard that owns no rows has nothing to run
+        Assumptions.assumeFalse(owned.isEmpty(), () -> "No rows of " + datasetName() + " in " + shard);
+        return owned.stream();
+    }
+
+    private String datasetName() {
+        return override != null ? override : resource;
+    }
+
+    private List<String[]> rows() {
+        String name = datasetName();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(open(), StandardCharsets.UTF_8))) {
+            List<String[]> rows = new ArrayList<>();
+            int columns = -1;
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] values = line.split(",", -1);
+                if (columns < 0) {
+                    columns = values.length;
+                    continue;
+                }
+                if (values.length != columns) {
+                    throw new IllegalStateException(name + ":" + lineNumber + " has " + values.length
+                            + " columns, the header has " + columns);
+                }
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = values[i].trim().isEmpty() ? null : values[i].trim();
+                }
+                rows.add(values);
+            }
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read dataset " + name, e);
+        }
+    }
+
+    private InputStream open() throws IOException {
+        if (override != null) {
+            return Files.newInputStream(Paths.get(override));
+        }
+        InputStream in = ShardedCsvArgumentsProvider.class.getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalStateException("No dataset " + resource + " on the test classpath");
+        }
+        return in;
+    }
+}
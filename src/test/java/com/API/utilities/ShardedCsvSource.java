@@ -0,0 +1,29 @@
+package com.API.utilities;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Feeds a {@code @ParameterizedTest} from a CSV dataset, keeping only the rows of the current {@link Shard}.
+ * The first non-comment line is a header; the first column is the row key used for sharding. Values are
+ * comma-separated and trimmed, without quoting; an empty value is passed as {@code null}. Lines starting with
+ * {@code #} are comments.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ArgumentsSource(ShardedCsvArgumentsProvider.class)
+public @interface ShardedCsvSource {
+    /**
+     * Classpath resource of the default dataset, e.g. {@code /datasets/organizations.csv}.
+     */
+    String value();
+
+    /**
+     * System property that, when set, names a dataset file to read instead.
+     */
+    String property() default "";
+}
@@ -0,0 +1,207 @@
+package com.API.utilities;
+
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Golden snapshots of whole responses. A response is reduced to {@link CanonicalJson} (sorted keys, volatile fields
+ * dropped) and its SHA-256 compared with the one in {@code snapshots.idx}; when they are equal the check is done
+ * without reading the snapshot. Only on a mismatch is the stored snapshot read from {@code snapshots.dat}, at the
+ * offset the index gives, and diffed structurally.
+ * <p>
+ * Files live in {@code api.snapshots.dir}, by default {@code src/test/resources/snapshots/replay} for the committed
+ * fixtures and {@code src/test/resources/snapshots/live} for the real upstreams (record mode talks to those too).
+ * {@code -Dapi.snapshots=off|verify|update} selects the {@link Mode}. It defaults to {@code verify} in replay mode,
+ * where the goldens are committed, and to {@code off} against the real upstreams, whose goldens are not: record them
+ * with {@code update} first. {@code updated_at} and {@code pushed_at} are always ignored.
+ */
+public class SnapshotStore {
+    private static final Set<String> ALWAYS_IGNORED = Set.of("updated_at", "pushed_at");
+    private static final int MAX_DIFFERENCES = 20;
+    private static final SnapshotStore SHARED = new SnapshotStore(
+            Paths.get(System.getProperty("api.snapshots.dir", "src/test/resources/snapshots/"
+                    + (ApiMode.current() == ApiMode.REPLAY ? "replay" : "live"))),
+            Mode.current());
+
+    private final Path index;
+    private final Path data;
+    private final Mode mode;
+    private Map<String, Entry> entries;
+    private final Map<String, byte[]> recorded = new TreeMap<>();
+    private final AtomicLong matched = new AtomicLong();
+    private final AtomicLong changed = new AtomicLong();
+    private final AtomicLong missing = new AtomicLong();
+
+    public SnapshotStore(Path dir, Mode mode) {
+        this.index = dir.resolve("snapshots.idx");
+        this.data = dir.resolve("snapshots.dat");
+        this.mode = mode;
+        if (mode == Mode.UPDATE) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::writeRecorded));
+        }
+    }
+
+    public static SnapshotStore shared() {
+        return SHARED;
+    }
+
+    /**
+     * @param name          unique snapshot name, e.g. {@code github/orgs/cucumber}
+     * @param ignoredFields field names to leave out at any depth, on top of {@code updated_at} and {@code pushed_at}
+     */
+    public void assertMatches(String name, Response response, String... ignoredFields) {
+        assertMatches(name, response.asByteArray(), ignoredFields);
+    }
+
+    public void assertMatches(String name, byte[] json, String... ignoredFields) {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        Set<String> ignored = new HashSet<>(ALWAYS_IGNORED);
+        ignored.addAll(Arrays.asList(ignoredFields));
+        Object actual = CanonicalJson.parse(json, ignored);
+        byte[] canonical = CanonicalJson.write(actual);
+        if (mode == Mode.UPDATE) {
+            synchronized (this) {
+                recorded.put(name, canonical);
+            }
+            return;
+        }
+        Entry entry = entries().get(name);
+        if (entry == null) {
+            missing.incrementAndGet();
+            throw new AssertionError("No snapshot '" + name + "' in " + index + ", record it with -Dapi.snapshots=update");
+        }
+        if (entry.hash.equals(Bytes.sha256(canonical))) {
+            matched.incrementAndGet();
+            return;
+        }
+        changed.incrementAndGet();
+        Object expected = CanonicalJson.parse(read(entry), ignored);
+        List<String> differences = CanonicalJson.diff(expected, actual, MAX_DIFFERENCES);
+        throw new AssertionError("Response differs from snapshot '" + name + "'"
+                + (differences.isEmpty() ? " only in fields ignored now" : ":\n  " + String.join("\n  ", differences)));
+    }
+
+    public long getMatched() {
+        return matched.get();
+    }
+
+    public long getChanged() {
+        return changed.get();
+    }
+
+    public long getMissing() {
+        return missing.get();
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotStore{matched=" + matched + ", changed=" + changed + ", missing=" + missing + '}';
+    }
+
+    private synchronized Map<String, Entry> entries() {
+        if (entries == null) {
+            entries = new TreeMap<>();
+            if (Files.exists(index)) {
+                try {
+                    for (String line : Files.readAllLines(index, StandardCharsets.UTF_8)) {
+                        if (line.isEmpty()) {
+                            continue;
+                        }
+                        String[] parts = line.split("\t", 4);
+                        entries.put(parts[3], new Entry(parts[0], Long.parseLong(parts[1]), Integer.parseInt(parts[2])));
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not read snapshot index " + index, e);
+                }
+            }
+        }
+        return entries;
+    }
+
+    private byte[] read(Entry entry) {
+        try (RandomAccessFile file = new RandomAccessFile(data.toFile(), "r")) {
+            byte[] bytes = new byte[entry.length];
+            file.seek(entry.offset);
+            file.readFully(bytes);
+            return bytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read snapshot data " + data, e);
+        }
+    }
+
+    private synchronized void writeRecorded() {
+        if (recorded.isEmpty()) {
+            return;
+        }
+        Map<String, byte[]> all = new TreeMap<>();
+        entries().forEach((name, entry) -> all.put(name, read(entry)));
+        all.putAll(recorded);
+        try {
+            Files.createDirectories(index.toAbsolutePath().getParent());
+            Path dataTemp = Files.createTempFile(data.toAbsolutePath().getParent(), "snapshots", ".dat.tmp");
+            Path indexTemp = Files.createTempFile(index.toAbsolutePath().getParent(), "snapshots", ".idx.tmp");
+            StringBuilder lines = new StringBuilder();
+            try (RandomAccessFile out = new RandomAccessFile(dataTemp.toFile(), "rw")) {
+                for (Map.Entry<String, byte[]> snapshot : all.entrySet()) {
+                    lines.append(Bytes.sha256(snapshot.getValue())).append('\t').append(out.getFilePointer()).append('\t')
+                            .append(snapshot.getValue().length).append('\t').append(snapshot.getKey()).append('\n');
+                    out.write(snapshot.getValue());
+                    out.write('\n');
+                }
+            }
+            Files.write(indexTemp, lines.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(dataTemp, data, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(indexTemp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            System.err.println("Recorded " + recorded.size() + " snapshot(s) into " + index.getParent());
+        } catch (IOException e) {
+            System.err.println("Could not write snapshots to " + index.getParent() + ": " + e);
+        }
+    }
+
+    public enum Mode {
+        /** Snapshot checks pass without looking at the response. */
+        OFF,
+        /** A response must match its snapshot; a missing snapshot fails. */
+        VERIFY,
+        /** Responses are recorded as the new snapshots at JVM exit. */
+        UPDATE;
+
+        public static Mode current() {
+            String mode = System.getProperty("api.snapshots", ApiMode.current() == ApiMode.REPLAY ? "verify" : "off");
+            try {
+                return valueOf(mode.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Unknown api.snapshots '" + mode + "', expected off, verify or update");
+            }
+        }
+    }
+
+    private static class Entry {
+        private final String hash;
+        private final long offset;
+        private final int length;
+
+        Entry(String hash, long offset, int length) {
+            this.hash = hash;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
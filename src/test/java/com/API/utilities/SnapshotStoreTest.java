@@ -0,0 +1,83 @@
+package com.API.utilities;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SnapshotStoreTest {
+    private static final String ORG = "{\"login\":\"cucumber\",\"id\":320565,\"followers\":10,"
+            + "\"repos\":[{\"name\":\"cucumber-jvm\"},{\"name\":\"gherkin\"}]}";
+
+    @TempDir
+    static Path dir;
+
+    /*
+    Writes the index and data files the way a run with -Dapi.snapshots=update leaves them.
+     */
+    @BeforeAll
+    public static void writeSnapshot() throws IOException {
+        byte[] canonical = CanonicalJson.write(CanonicalJson.parse(bytes(ORG), Set.of()));
+        Files.write(dir.resolve("snapshots.dat"), canonical);
+        Files.write(dir.resolve("snapshots.idx"),
+                (Bytes.sha256(canonical) + "\t0\t" + canonical.length + "\tgithub/orgs/cucumber\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void sameContentInAnotherOrderMatches() {
+        SnapshotStore store = new SnapshotStore(dir, SnapshotStore.Mode.VERIFY);
+        store.assertMatches("github/orgs/cucumber",
+                bytes("{\"repos\":[{\"name\":\"cucumber-jvm\"},{\"name\":\"gherkin\"}],\"followers\":10,\"id\":320565,\"login\":\"cucumber\"}"));
+        assertThat(store.getMatched(), is(1L));
+    }
+
+    @Test
+    public void changedResponseReportsAStructuralDiff() {
+        SnapshotStore store = new SnapshotStore(dir, SnapshotStore.Mode.VERIFY);
+        AssertionError error = assertThrows(AssertionError.class, () -> store.assertMatches("github/orgs/cucumber",
+                bytes("{\"login\":\"cucumber\",\"id\":1,\"followers\":10,\"blog\":\"cucumber.io\","
+                        + "\"repos\":[{\"name\":\"cucumber-js\"}]}")));
+
+        assertThat(error.getMessage(), startsWith("Response differs from snapshot 'github/orgs/cucumber':"));
+        assertThat(error.getMessage(), containsString("$.id was 1, snapshot has 320565"));
+        assertThat(error.getMessage(), containsString("$.blog is new: 'cucumber.io'"));
+        assertThat(error.getMessage(), containsString("$.repos[0].name was 'cucumber-js', snapshot has 'cucumber-jvm'"));
+        assertThat(error.getMessage(), containsString("$.repos has 1 elements, snapshot has 2"));
+        assertThat(store.getChanged(), is(1L));
+    }
+
+    @Test
+    public void differenceOnlyInIgnoredFieldsSaysSo() {
+        SnapshotStore store = new SnapshotStore(dir, SnapshotStore.Mode.VERIFY);
+        // the snapshot was recorded with followers, the check now ignores it
+        AssertionError error = assertThrows(AssertionError.class, () -> store.assertMatches("github/orgs/cucumber",
+                bytes("{\"login\":\"cucumber\",\"id\":320565,\"followers\":11,"
+                        + "\"repos\":[{\"name\":\"cucumber-jvm\"},{\"name\":\"gherkin\"}]}"), "followers"));
+        assertThat(error.getMessage(), is("Response differs from snapshot 'github/orgs/cucumber' only in fields ignored now"));
+    }
+
+    @Test
+    public void missingSnapshotFailsUnlessChecksAreOff() {
+        SnapshotStore verifying = new SnapshotStore(dir, SnapshotStore.Mode.VERIFY);
+        assertThrows(AssertionError.class, () -> verifying.assertMatches("github/orgs/unknown", bytes(ORG)));
+        assertThat(verifying.getMissing(), is(1L));
+
+        SnapshotStore off = new SnapshotStore(dir, SnapshotStore.Mode.OFF);
+        off.assertMatches("github/orgs/unknown", bytes(ORG));
+        off.assertMatches("github/orgs/cucumber", bytes("{}"));
+        assertThat(off.getMatched() + off.getChanged() + off.getMissing(), is(0L));
+    }
+}
@@ -0,0 +1,242 @@
+package com.API.utilities;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Checks a JSON array of objects in a single pass over the parser tokens, without building GPath trees or
+ * boxed lists. Checks are registered against dotted field paths inside each element ({@code id},
+ * {@code owner.id}); subtrees no check cares about are skipped. Numeric uniqueness goes through a
+ * {@link LongHashSet}. {@link #feed} can be called once per page, the state carries over.
+ */
+public class StreamingJsonValidator {
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final int MAX_REPORTED = 20;
+
+    private final Node root = new Node();
+    private final List<Check> checks = new ArrayList<>();
+    private final List<String> violations = new ArrayList<>();
+    private long violationCount;
+    private long count;
+    private long expectedCount = -1;
+
+    public static StreamingJsonValidator forArray() {
+        return new StreamingJsonValidator();
+    }
+
+    public StreamingJsonValidator unique(String path) {
+        return add(new UniqueCheck(path));
+    }
+
+    public StreamingJsonValidator everyLong(String path, String description, LongPredicate predicate) {
+        return add(new Check(path, description) {
+            @Override
+            void accept(JsonParser parser, JsonToken token, long index) throws IOException {
+                if (token != JsonToken.VALUE_NUMBER_INT) {
+                    violation(index, path + " is " + token + ", expected an integer");
+                } else if (!predicate.test(parser.getLongValue())) {
+                    violation(index, path + " was " + parser.getLongValue() + ", expected " + description);
+                }
+            }
+        });
+    }
+
+    public StreamingJsonValidator everyString(String path, String description, Predicate<String> predicate) {
+        return add(new Check(path, description) {
+            @Override
+            void accept(JsonParser parser, JsonToken token, long index) throws IOException {
+                if (token != JsonToken.VALUE_STRING) {
+                    violation(index, path + " is " + token + ", expected a string");
+                } else if (!predicate.test(parser.getText())) {
+                    violation(index, path + " was '" + parser.getText() + "', expected " + description);
+                }
+            }
+        });
+    }
+
+    public StreamingJsonValidator everyBoolean(String path) {
+        return add(new Check(path, "a boolean") {
+            @Override
+            void accept(JsonParser parser, JsonToken token, long index) {
+                if (token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_FALSE) {
+                    violation(index, path + " is " + token + ", expected a boolean");
+                }
+            }
+        });
+    }
+
+    /**
+     * Requires the string at {@code path} to be in order across all elements fed so far, see {@link OrderingVerifier}.
+     * Read from the parser's character buffer, so no per-element strings are created.
+     */
+    public StreamingJsonValidator ordered(String path, OrderingVerifier verifier) {
+        return add(new Check(path, verifier.describe() + " order") {
+            @Override
+            void accept(JsonParser parser, JsonToken token, long index) throws IOException {
+                if (token != JsonToken.VALUE_STRING) {
+                    violation(index, path + " is " + token + ", expected a string");
+                    return;
+                }
+                boolean inOrder;
+                try {
+                    inOrder = verifier.accept(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                } catch (IllegalArgumentException e) {
+                    violation(index, path + ": " + e.getMessage());
+                    return;
+                }
+                if (!inOrder) {
+                    violation(index, path + " '" + parser.getText() + "' came after '" + verifier.previous()
+                            + "', expected " + description);
+                }
+            }
+        });
+    }
+
+    public StreamingJsonValidator expectCount(long expected) {
+        this.expectedCount = expected;
+        return this;
+    }
+
+    public StreamingJsonValidator feed(Response response) {
+        return feed(response.asByteArray());
+    }
+
+    public StreamingJsonValidator feed(byte[] json) {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new AssertionError("Expected a JSON array but got " + parser.currentToken());
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                long index = count++;
+                for (Check check : checks) {
+                    check.seen = false;
+                }
+                if (token == JsonToken.START_OBJECT) {
+                    walk(parser, root, index);
+                } else {
+                    violation(index, "element is " + token + ", expected an object");
+                    parser.skipChildren();
+                }
+                for (Check check : checks) {
+                    if (!check.seen) {
+                        violation(index, check.path + " is missing, expected " + check.description);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed JSON", e);
+        }
+        return this;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public List<String> violations() {
+        return Collections.unmodifiableList(violations);
+    }
+
+    public void assertValid() {
+        List<String> reported = new ArrayList<>();
+        long total = violationCount;
+        if (expectedCount >= 0 && expectedCount != count) {
+            reported.add("expected " + expectedCount + " elements but got " + count);
+            total++;
+        }
+        reported.addAll(violations);
+        if (total > 0) {
+            throw new AssertionError(total + " violation(s) in " + count + " elements, first "
+                    + reported.size() + ":\n  " + String.join("\n  ", reported));
+        }
+    }
+
+    private void walk(JsonParser parser, Node node, long index) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Node child = node.children.get(parser.getCurrentName());
+            JsonToken value = parser.nextToken();
+            if (child == null) {
+                parser.skipChildren();
+                continue;
+            }
+            for (Check check : child.checks) {
+                check.seen = true;
+                check.accept(parser, value, index);
+            }
+            if (value == JsonToken.START_OBJECT && !child.children.isEmpty()) {
+                walk(parser, child, index);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private StreamingJsonValidator add(Check check) {
+        Node node = root;
+        for (String segment : check.path.split("\\.")) {
+            node = node.children.computeIfAbsent(segment, s -> new Node());
+        }
+        node.checks.add(check);
+        checks.add(check);
+        return this;
+    }
+
+    private void violation(long index, String message) {
+        violationCount++;
+        if (violations.size() < MAX_REPORTED) {
+            violations.add("[" + index + "] " + message);
+        }
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<Check> checks = new ArrayList<>(1);
+    }
+
+    private abstract class Check {
+        final String path;
+        final String description;
+        boolean seen;
+
+        Check(String path, String description) {
+            this.path = path;
+            this.description = description;
+        }
+
+        abstract void accept(JsonParser parser, JsonToken token, long index) throws IOException;
+    }
+
+    private class UniqueCheck extends Check {
+        private final LongHashSet longs = new LongHashSet(256);
+        private final Set<String> strings = new HashSet<>();
+
+        UniqueCheck(String path) {
+            super(path, "a unique value");
+        }
+
+        @Override
+        void accept(JsonParser parser, JsonToken token, long index) throws IOException {
+            boolean added;
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                added = longs.add(parser.getLongValue());
+            } else if (token == JsonToken.VALUE_STRING) {
+                added = strings.add(parser.getText());
+            } else {
+                violation(index, path + " is " + token + ", expected an integer or string");
+                return;
+            }
+            if (!added) {
+                violation(index, path + " '" + parser.getText() + "' is not unique");
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.API.utilities;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Embedded HTTP server on the loopback interface that answers requests from the {@link FixtureStore}
+ * as if it were the given upstream. A request that has no fixture gets a 501 naming the missing key; a request whose
+ * {@code If-None-Match} matches the recorded {@code ETag}, or without one whose {@code If-Modified-Since} is the
+ * recorded {@code Last-Modified}, gets a 304, like the upstream would send. Bodies are
+ * gzipped for clients that accept it, as GitHub does.
+ */
+public class StubServer {
+    private final String upstreamOrigin;
+    private final FixtureStore store;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private StubServer(String upstreamOrigin, FixtureStore store) throws IOException {
+        this.upstreamOrigin = upstreamOrigin;
+        this.store = store;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-" + upstreamOrigin);
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+    }
+
+    public static StubServer start(String upstreamOrigin, FixtureStore store) {
+        try {
+            StubServer stub = new StubServer(upstreamOrigin, store);
+            // the dispatcher thread inherits the daemon flag of the thread that starts the server
+            Thread starter = new Thread(stub.server::start, "stub-starter");
+            starter.setDaemon(true);
+            starter.start();
+            starter.join();
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start stub for " + upstreamOrigin, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting stub for " + upstreamOrigin, e);
+        }
+    }
+
+    public String getOrigin() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        // HttpExchange is only AutoCloseable from Java 14 on
+        try {
+            URI requestUri = exchange.getRequestURI();
+            String upstreamUri = upstreamOrigin + requestUri.getRawPath()
+                    + (requestUri.getRawQuery() == null ? "" : "?" + requestUri.getRawQuery());
+            String key = FixtureStore.key(exchange.getRequestMethod(), upstreamUri,
+                    exchange.getRequestHeaders().getFirst("Accept"));
+            Optional<FixtureStore.Fixture> fixture = store.find(key);
+            if (!fixture.isPresent()) {
+                byte[] body = ("{\"error\":\"No recorded fixture for " + key.replace("\"", "'")
+                        + ", run once with -Dapi.mode=record\"}").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+                exchange.sendResponseHeaders(501, body.length);
+                exchange.getResponseBody().write(body);
+                return;
+            }
+            for (List<String> header : fixture.get().getHeaders()) {
+                exchange.getResponseHeaders().add(header.get(0), header.get(1));
+            }
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+            boolean notModified = ifNoneMatch != null
+                    ? ifNoneMatch.equals(exchange.getResponseHeaders().getFirst("ETag"))
+                    : ifModifiedSince != null && ifModifiedSince.equals(exchange.getResponseHeaders().getFirst("Last-Modified"));
+            if (notModified) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            byte[] body = fixture.get().getBody().getBytes(StandardCharsets.UTF_8);
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            if (body.length > 0 && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                body = gzip(body);
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+            exchange.sendResponseHeaders(fixture.get().getStatus(), body.length == 0 ? -1 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length / 4 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(body);
+        }
+        return bytes.toByteArray();
+    }
+}
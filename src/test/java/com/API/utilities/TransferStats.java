@@ -0,0 +1,70 @@
+package com.API.utilities;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bytes on the wire, bytes after decompression and decompression time per endpoint template, as measured by the
+ * {@link BodyBufferingFilter}. At JVM exit they go to {@code api.transfer.report} (default
+ * {@code target/transfer-report.json}).
+ */
+public class TransferStats {
+    private static final TransferStats INSTANCE = new TransferStats();
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    static {
+        JsonReport.atExit("api.transfer.report", "target/transfer-report.json", INSTANCE::summary);
+    }
+
+    private TransferStats() {
+    }
+
+    public static TransferStats instance() {
+        return INSTANCE;
+    }
+
+    public void record(String endpoint, long wireBytes, long bodyBytes, boolean compressed, long decodeNanos) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, e -> new Endpoint());
+        stats.responses.incrementAndGet();
+        stats.wireBytes.addAndGet(wireBytes);
+        stats.bodyBytes.addAndGet(bodyBytes);
+        if (compressed) {
+            stats.compressed.incrementAndGet();
+            stats.decodeNanos.addAndGet(decodeNanos);
+        }
+    }
+
+    public long wireBytes() {
+        return endpoints.values().stream().mapToLong(stats -> stats.wireBytes.get()).sum();
+    }
+
+    public long bodyBytes() {
+        return endpoints.values().stream().mapToLong(stats -> stats.bodyBytes.get()).sum();
+    }
+
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new TreeMap<>();
+        endpoints.forEach((endpoint, stats) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("responses", stats.responses.get());
+            values.put("compressed", stats.compressed.get());
+            values.put("wire_bytes", stats.wireBytes.get());
+            values.put("body_bytes", stats.bodyBytes.get());
+            values.put("decode_ms", Math.round(stats.decodeNanos.get() / 10_000.0) / 100.0);
+            summary.put(endpoint, values);
+        });
+        return summary;
+    }
+
+    private static class Endpoint {
+        private final AtomicLong responses = new AtomicLong();
+        private final AtomicLong compressed = new AtomicLong();
+        private final AtomicLong wireBytes = new AtomicLong();
+        private final AtomicLong bodyBytes = new AtomicLong();
+        private final AtomicLong decodeNanos = new AtomicLong();
+    }
+}